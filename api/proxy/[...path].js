@@ -44,7 +44,7 @@ module.exports = async function handler(req, res) {
   const target = `${backendOrigin.replace(/\/$/, "")}/api/${path}${queryString ? `?${queryString}` : ""}`;
 
   const headers = {};
-  const passHeaders = ["authorization", "content-type", "x-tenant-id", "accept"];
+  const passHeaders = ["authorization", "content-type", "x-tenant-id", "accept", "if-none-match"];
   for (const header of passHeaders) {
     if (req.headers[header]) {
       headers[header] = req.headers[header];
@@ -68,6 +68,19 @@ module.exports = async function handler(req, res) {
     if (contentType) {
       res.setHeader("Content-Type", contentType);
     }
+    for (const header of ["etag", "cache-control", "x-next-cursor"]) {
+      const value = upstream.headers.get(header);
+      if (value) {
+        res.setHeader(header, value);
+      }
+    }
+    const vary = upstream.headers.get("vary");
+    if (vary) {
+      res.setHeader("Vary", `Origin, ${vary}`);
+    }
+    if (upstream.status === 304) {
+      return res.status(304).end();
+    }
 
     const payload = await upstream.text();
     return res.status(upstream.status).send(payload);
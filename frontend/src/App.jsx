@@ -60,6 +60,24 @@ const fallbackPackages = [
   }
 ];
 
+const fetchAllPages = async (url, headers) => {
+  const rows = [];
+  let cursor = "";
+  do {
+    const separator = url.includes("?") ? "&" : "?";
+    const res = await fetch(cursor ? `${url}${separator}cursor=${encodeURIComponent(cursor)}` : url, { headers });
+    const data = await res.json();
+    if (!res.ok) {
+      return { ok: false, data };
+    }
+    if (Array.isArray(data)) {
+      rows.push(...data);
+    }
+    cursor = res.headers.get("X-Next-Cursor") || "";
+  } while (cursor);
+  return { ok: true, data: rows };
+};
+
 
 export default function App() {
   const storedTenant = localStorage.getItem("tenantId") || "public";
@@ -732,40 +750,30 @@ export default function App() {
     const loadAccountData = async () => {
       setAccountLoading(true);
       try {
-        const bookingsRes = await fetch(`${API}/booking/user-bookings`, { headers: authHeaders() });
-        const bookingsData = await bookingsRes.json();
-        if (!bookingsRes.ok || !Array.isArray(bookingsData)) {
+        const accountRes = await fetch(`${API}/booking/with-installments`, { headers: authHeaders() });
+        const accountData = await accountRes.json();
+        const bookingsData = accountData?.bookings;
+        if (!accountRes.ok || !Array.isArray(bookingsData)) {
           setAccountBookings([]);
           setPaymentAudit([]);
           return;
         }
         setAccountBookings(bookingsData);
 
-        const auditRows = await Promise.all(
-          bookingsData.map(async (row) => {
-            try {
-              const installmentsRes = await fetch(`${API}/payment/installments/${row.id}`, {
-                headers: authHeaders()
-              });
-              if (!installmentsRes.ok) {
-                return [];
-              }
-              const installmentData = await installmentsRes.json();
-              if (!Array.isArray(installmentData)) {
-                return [];
-              }
-              return installmentData.map((item) => ({
-                ...item,
-                bookingId: row.id,
-                travelDate: row.travelDate,
-                packageId: row.packageId,
-                travelerName: row.travelerName
-              }));
-            } catch (_) {
-              return [];
-            }
-          })
-        );
+        const grouped = accountData.installments || {};
+        const auditRows = bookingsData.map((row) => {
+          const installmentData = grouped[String(row.id)];
+          if (!Array.isArray(installmentData)) {
+            return [];
+          }
+          return installmentData.map((item) => ({
+            ...item,
+            bookingId: row.id,
+            travelDate: row.travelDate,
+            packageId: row.packageId,
+            travelerName: row.travelerName
+          }));
+        });
         setPaymentAudit(auditRows.flat());
       } finally {
         setAccountLoading(false);
@@ -782,13 +790,13 @@ export default function App() {
     try {
       const [packagesRes, bookingsRes, paymentsRes] = await Promise.all([
         fetch(`${API}/admin/catalog/packages`, { headers: authHeaders() }),
-        fetch(`${API}/admin/booking/bookings`, { headers: authHeaders() }),
-        fetch(`${API}/admin/payment/payments`, { headers: authHeaders() })
+        fetchAllPages(`${API}/admin/booking/bookings`, authHeaders()),
+        fetchAllPages(`${API}/admin/payment/payments`, authHeaders())
       ]);
 
       const packagesData = await packagesRes.json();
-      const bookingsData = await bookingsRes.json();
-      const paymentsData = await paymentsRes.json();
+      const bookingsData = bookingsRes.data;
+      const paymentsData = paymentsRes.data;
 
       if (!packagesRes.ok) {
         throw new Error(packagesData?.error || "Unable to load packages");
@@ -1575,6 +1583,7 @@ export default function App() {
                           }
                         >
                           <option value="due">due</option>
+                          <option value="overdue">overdue</option>
                           <option value="paid">paid</option>
                           <option value="failed">failed</option>
                         </select>
@@ -0,0 +1,53 @@
+import http from "k6/http";
+import { check } from "k6";
+
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8080";
+const TENANT = __ENV.TENANT || "public";
+
+export const options = {
+  scenarios: {
+    steady: {
+      executor: "constant-arrival-rate",
+      rate: Number(__ENV.RATE || 200),
+      timeUnit: "1s",
+      duration: __ENV.DURATION || "2m",
+      preAllocatedVUs: Number(__ENV.VUS || 200),
+      maxVUs: Number(__ENV.MAX_VUS || 1000)
+    }
+  },
+  summaryTrendStats: ["avg", "p(50)", "p(95)", "p(99)", "max"]
+};
+
+export function setup() {
+  const res = http.post(
+    `${BASE_URL}/api/auth/login`,
+    JSON.stringify({
+      email: __ENV.EMAIL || "user@almuhammad.com",
+      password: __ENV.PASSWORD || "user123"
+    }),
+    { headers: { "Content-Type": "application/json", "X-Tenant-ID": TENANT } }
+  );
+  check(res, { "login succeeded": (r) => r.status === 200 });
+  return { token: res.json("token") };
+}
+
+export default function (data) {
+  const headers = { Authorization: `Bearer ${data.token}`, "X-Tenant-ID": TENANT };
+  const catalog = http.get(`${BASE_URL}/api/catalog/packages`, {
+    headers,
+    tags: { endpoint: "catalog" }
+  });
+  check(catalog, { "catalog 200": (r) => r.status === 200 });
+
+  const bookings = http.get(`${BASE_URL}/api/booking/my`, {
+    headers,
+    tags: { endpoint: "my-bookings" }
+  });
+  check(bookings, { "bookings 200": (r) => r.status === 200 });
+
+  const me = http.get(`${BASE_URL}/api/auth/me`, {
+    headers,
+    tags: { endpoint: "me" }
+  });
+  check(me, { "me 200": (r) => r.status === 200 });
+}
@@ -5,6 +5,9 @@ import com.almuhammad.auth.service.AuthService;
 import com.almuhammad.auth.service.GoogleTokenVerifier;
 import com.almuhammad.auth.service.JwtService;
 import com.almuhammad.auth.service.MobileOtpService;
+import com.almuhammad.auth.service.OtpRateLimitedException;
+import com.almuhammad.auth.service.PasswordHashingBusyException;
+import com.almuhammad.auth.service.UserProfileCache.UserProfile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -62,6 +65,8 @@ public class AuthController {
         "lastName", user.getLastName() == null ? "" : user.getLastName(),
         "mobileNumber", user.getMobileNumber() == null ? "" : user.getMobileNumber()
       ));
+    } catch (PasswordHashingBusyException ex) {
+      return busy(ex);
     } catch (IllegalArgumentException ex) {
       return ResponseEntity.status(401).body(Map.of("error", ex.getMessage()));
     }
@@ -94,6 +99,8 @@ public class AuthController {
         "lastName", user.getLastName(),
         "mobileNumber", user.getMobileNumber()
       ));
+    } catch (PasswordHashingBusyException ex) {
+      return busy(ex);
     } catch (IllegalArgumentException ex) {
       return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
     }
@@ -115,6 +122,8 @@ public class AuthController {
         response.put("demoOtp", result.otpForDemo());
       }
       return ResponseEntity.ok(response);
+    } catch (OtpRateLimitedException ex) {
+      return tooManyRequests(ex.getMessage(), ex.getRetryAfterSeconds());
     } catch (IllegalArgumentException ex) {
       return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
     }
@@ -133,6 +142,8 @@ public class AuthController {
         "message", "OTP verified",
         "mobileVerificationToken", verificationToken
       ));
+    } catch (OtpRateLimitedException ex) {
+      return tooManyRequests(ex.getMessage(), ex.getRetryAfterSeconds());
     } catch (IllegalArgumentException ex) {
       return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
     }
@@ -182,14 +193,14 @@ public class AuthController {
       if (!tenantId.equals(tokenTenant)) {
         return ResponseEntity.status(403).body(Map.of("error", "Tenant mismatch"));
       }
-      User user = authService.getProfile(tenantId, email);
+      UserProfile profile = authService.getProfile(tenantId, email);
       return ResponseEntity.ok(Map.of(
-        "user", user.getEmail(),
-        "role", user.getRole(),
-        "tenantId", user.getTenantId(),
-        "firstName", user.getFirstName() == null ? "" : user.getFirstName(),
-        "lastName", user.getLastName() == null ? "" : user.getLastName(),
-        "mobileNumber", user.getMobileNumber() == null ? "" : user.getMobileNumber()
+        "user", profile.email(),
+        "role", profile.role(),
+        "tenantId", profile.tenantId(),
+        "firstName", profile.firstName() == null ? "" : profile.firstName(),
+        "lastName", profile.lastName() == null ? "" : profile.lastName(),
+        "mobileNumber", profile.mobileNumber() == null ? "" : profile.mobileNumber()
       ));
     } catch (IllegalArgumentException ex) {
       return ResponseEntity.status(401).body(Map.of("error", ex.getMessage()));
@@ -202,6 +213,16 @@ public class AuthController {
     return ResponseEntity.ok(claims);
   }
 
+  private ResponseEntity<Map<String, Object>> busy(PasswordHashingBusyException ex) {
+    return tooManyRequests(ex.getMessage(), 1);
+  }
+
+  private ResponseEntity<Map<String, Object>> tooManyRequests(String message, long retryAfterSeconds) {
+    return ResponseEntity.status(429)
+      .header("Retry-After", String.valueOf(retryAfterSeconds))
+      .body(Map.of("error", message));
+  }
+
   private String normalizeMobile(String mobile) {
     if (mobile == null) {
       throw new IllegalArgumentException("Mobile number is required");
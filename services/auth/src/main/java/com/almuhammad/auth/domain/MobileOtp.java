@@ -0,0 +1,81 @@
+package com.almuhammad.auth.domain;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(
+  name = "mobile_otps",
+  indexes = {
+    @Index(name = "idx_mobile_otps_expires_at", columnList = "expires_at")
+  }
+)
+public class MobileOtp {
+  @Id
+  @Column(name = "otp_key")
+  private String otpKey;
+
+  @Column
+  private String otp;
+
+  @Column
+  private Instant otpExpiresAt;
+
+  @Column
+  private String verificationToken;
+
+  @Column
+  private Instant verificationExpiresAt;
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt;
+
+  public String getOtpKey() {
+    return otpKey;
+  }
+
+  public void setOtpKey(String otpKey) {
+    this.otpKey = otpKey;
+  }
+
+  public String getOtp() {
+    return otp;
+  }
+
+  public void setOtp(String otp) {
+    this.otp = otp;
+  }
+
+  public Instant getOtpExpiresAt() {
+    return otpExpiresAt;
+  }
+
+  public void setOtpExpiresAt(Instant otpExpiresAt) {
+    this.otpExpiresAt = otpExpiresAt;
+  }
+
+  public String getVerificationToken() {
+    return verificationToken;
+  }
+
+  public void setVerificationToken(String verificationToken) {
+    this.verificationToken = verificationToken;
+  }
+
+  public Instant getVerificationExpiresAt() {
+    return verificationExpiresAt;
+  }
+
+  public void setVerificationExpiresAt(Instant verificationExpiresAt) {
+    this.verificationExpiresAt = verificationExpiresAt;
+  }
+
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  public void setExpiresAt(Instant expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+}
@@ -0,0 +1,17 @@
+package com.almuhammad.auth.repo;
+
+import com.almuhammad.auth.domain.MobileOtp;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface MobileOtpRepository extends JpaRepository<MobileOtp, String> {
+  @Modifying
+  @Transactional
+  @Query("delete from MobileOtp o where o.expiresAt < :now")
+  int deleteExpired(@Param("now") Instant now);
+}
@@ -2,21 +2,25 @@ package com.almuhammad.auth.service;
 
 import com.almuhammad.auth.domain.User;
 import com.almuhammad.auth.repo.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
-
 @Service
 public class AuthService {
   private final UserRepository users;
-  private final PasswordEncoder encoder;
+  private final PasswordHasher hasher;
   private final MobileOtpService mobileOtpService;
+  private final UserProfileCache profiles;
 
-  public AuthService(UserRepository users, PasswordEncoder encoder, MobileOtpService mobileOtpService) {
+  public AuthService(
+      UserRepository users,
+      PasswordHasher hasher,
+      MobileOtpService mobileOtpService,
+      UserProfileCache profiles
+  ) {
     this.users = users;
-    this.encoder = encoder;
+    this.hasher = hasher;
     this.mobileOtpService = mobileOtpService;
+    this.profiles = profiles;
   }
 
   public User register(String email, String password, String role) {
@@ -27,9 +31,11 @@ public class AuthService {
     user.setLastName("");
     user.setEmail(email);
     user.setMobileNumber(null);
-    user.setPasswordHash(encoder.encode(password));
+    user.setPasswordHash(hasher.encode(password));
     user.setRole(role);
-    return users.save(user);
+    User saved = users.save(user);
+    profiles.invalidate(saved.getTenantId(), saved.getEmail());
+    return saved;
   }
 
   public User register(
@@ -57,18 +63,26 @@ public class AuthService {
     user.setLastName(lastName.trim());
     user.setEmail(email);
     user.setMobileNumber(mobileNumber);
-    user.setPasswordHash(encoder.encode(password));
+    user.setPasswordHash(hasher.encode(password));
     user.setRole(role);
     User saved = users.save(user);
+    profiles.invalidate(saved.getTenantId(), saved.getEmail());
     mobileOtpService.clearVerification(tenantId, mobileNumber);
     return saved;
   }
 
   public User authenticate(String tenantId, String email, String password) {
     User user = users.findByEmailAndTenantId(email, tenantId).orElseThrow();
-    if (!encoder.matches(password, user.getPasswordHash())) {
+    if (!hasher.matches(password, user.getPasswordHash())) {
       throw new IllegalArgumentException("Invalid credentials");
     }
+    if (hasher.needsRehash(user.getPasswordHash())) {
+      try {
+        user.setPasswordHash(hasher.encode(password));
+        users.save(user);
+      } catch (PasswordHashingBusyException ignored) {
+      }
+    }
     return user;
   }
 
@@ -81,14 +95,16 @@ public class AuthService {
       user.setLastName("");
       user.setEmail(email);
       user.setMobileNumber(null);
-      user.setPasswordHash(encoder.encode(UUID.randomUUID().toString()));
+      user.setPasswordHash(PasswordHasher.NO_PASSWORD);
       user.setRole("USER");
-      return users.save(user);
+      User saved = users.save(user);
+      profiles.invalidate(saved.getTenantId(), saved.getEmail());
+      return saved;
     });
   }
 
-  public User getProfile(String tenantId, String email) {
-    return users.findByEmailAndTenantId(email, tenantId).orElseThrow();
+  public UserProfileCache.UserProfile getProfile(String tenantId, String email) {
+    return profiles.get(tenantId, email, () -> users.findByEmailAndTenantId(email, tenantId).orElseThrow());
   }
 
   private void validateRegistrationInput(
@@ -0,0 +1,71 @@
+package com.almuhammad.auth.service;
+
+import com.almuhammad.auth.domain.MobileOtp;
+import com.almuhammad.auth.repo.MobileOtpRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Component
+@ConditionalOnProperty(name = "security.otp.store", havingValue = "database")
+public class DatabaseOtpStore implements OtpStore {
+  private final MobileOtpRepository otps;
+
+  public DatabaseOtpStore(MobileOtpRepository otps) {
+    this.otps = otps;
+  }
+
+  @Override
+  @Transactional
+  public void saveOtp(String key, String otp, Instant expiresAt) {
+    MobileOtp record = otps.findById(key).orElseGet(MobileOtp::new);
+    record.setOtpKey(key);
+    record.setOtp(otp);
+    record.setOtpExpiresAt(expiresAt);
+    record.setVerificationToken(null);
+    record.setVerificationExpiresAt(null);
+    record.setExpiresAt(expiresAt);
+    otps.save(record);
+  }
+
+  @Override
+  public Entry findOtp(String key, Instant now) {
+    return otps.findById(key)
+      .filter(record -> record.getOtp() != null && !now.isAfter(record.getOtpExpiresAt()))
+      .map(record -> new Entry(record.getOtp(), record.getOtpExpiresAt()))
+      .orElse(null);
+  }
+
+  @Override
+  @Transactional
+  public void saveVerification(String key, String token, Instant expiresAt) {
+    MobileOtp record = otps.findById(key).orElseGet(MobileOtp::new);
+    record.setOtpKey(key);
+    record.setVerificationToken(token);
+    record.setVerificationExpiresAt(expiresAt);
+    if (record.getExpiresAt() == null || record.getExpiresAt().isBefore(expiresAt)) {
+      record.setExpiresAt(expiresAt);
+    }
+    otps.save(record);
+  }
+
+  @Override
+  public Entry findVerification(String key, Instant now) {
+    return otps.findById(key)
+      .filter(record -> record.getVerificationToken() != null && !now.isAfter(record.getVerificationExpiresAt()))
+      .map(record -> new Entry(record.getVerificationToken(), record.getVerificationExpiresAt()))
+      .orElse(null);
+  }
+
+  @Override
+  public void remove(String key) {
+    otps.deleteById(key);
+  }
+
+  @Override
+  public int sweepExpired(Instant now) {
+    return otps.deleteExpired(now);
+  }
+}
@@ -0,0 +1,137 @@
+package com.almuhammad.auth.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class GoogleJwksKeys {
+  private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+  private static final long MIN_REFRESH_SECONDS = 60;
+  private static final long RETRY_SECONDS = 30;
+
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final URI jwksUri;
+  private final long defaultMaxAgeSeconds;
+  private final long clockSkewSeconds;
+  private final ScheduledExecutorService refresher;
+  private volatile Map<String, JwtParser> parsers = Map.of();
+  private volatile long lastFetchMillis;
+
+  public GoogleJwksKeys(
+      ObjectMapper objectMapper,
+      @Value("${security.google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri,
+      @Value("${security.google.jwks-default-max-age-seconds:3600}") long defaultMaxAgeSeconds,
+      @Value("${security.google.clock-skew-seconds:60}") long clockSkewSeconds,
+      @Value("${security.google.timeout-ms:3000}") long timeoutMillis
+  ) {
+    this.objectMapper = objectMapper;
+    this.jwksUri = URI.create(jwksUri);
+    this.defaultMaxAgeSeconds = Math.max(MIN_REFRESH_SECONDS, defaultMaxAgeSeconds);
+    this.clockSkewSeconds = clockSkewSeconds;
+    this.httpClient = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofMillis(timeoutMillis))
+      .build();
+    this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "google-jwks-refresh");
+      thread.setDaemon(true);
+      return thread;
+    });
+    refresher.execute(this::refreshAndReschedule);
+  }
+
+  public JwtParser parserFor(String keyId) {
+    JwtParser parser = parsers.get(keyId);
+    if (parser == null && System.currentTimeMillis() - lastFetchMillis > RETRY_SECONDS * 1000) {
+      try {
+        refresh();
+      } catch (Exception ignored) {
+        return null;
+      }
+      parser = parsers.get(keyId);
+    }
+    return parser;
+  }
+
+  private void refreshAndReschedule() {
+    long delaySeconds;
+    try {
+      delaySeconds = refresh();
+    } catch (Exception ex) {
+      delaySeconds = RETRY_SECONDS;
+    }
+    refresher.schedule(this::refreshAndReschedule, delaySeconds, TimeUnit.SECONDS);
+  }
+
+  private synchronized long refresh() throws Exception {
+    lastFetchMillis = System.currentTimeMillis();
+    HttpRequest request = HttpRequest.newBuilder(jwksUri)
+      .timeout(Duration.ofSeconds(5))
+      .GET()
+      .build();
+    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("JWKS fetch failed with status " + response.statusCode());
+    }
+
+    Map<String, JwtParser> loaded = new HashMap<>();
+    KeyFactory rsa = KeyFactory.getInstance("RSA");
+    for (JsonNode jwk : objectMapper.readTree(response.body()).path("keys")) {
+      String keyId = jwk.path("kid").asText("");
+      if (keyId.isBlank() || !"RSA".equals(jwk.path("kty").asText())) {
+        continue;
+      }
+      PublicKey key = rsa.generatePublic(new RSAPublicKeySpec(
+        unsigned(jwk.path("n").asText()),
+        unsigned(jwk.path("e").asText())
+      ));
+      loaded.put(keyId, Jwts.parser()
+        .verifyWith(key)
+        .clockSkewSeconds(clockSkewSeconds)
+        .build());
+    }
+    if (loaded.isEmpty()) {
+      throw new IllegalStateException("JWKS response has no RSA keys");
+    }
+    parsers = Map.copyOf(loaded);
+
+    long maxAge = response.headers().firstValue("Cache-Control")
+      .map(MAX_AGE::matcher)
+      .filter(Matcher::find)
+      .map(matcher -> Long.parseLong(matcher.group(1)))
+      .orElse(defaultMaxAgeSeconds);
+    return Math.max(MIN_REFRESH_SECONDS, maxAge - MIN_REFRESH_SECONDS);
+  }
+
+  private BigInteger unsigned(String base64Url) {
+    return new BigInteger(1, Base64.getUrlDecoder().decode(base64Url));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    refresher.shutdownNow();
+  }
+}
@@ -1,6 +1,10 @@
 package com.almuhammad.auth.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -11,21 +15,33 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class GoogleTokenVerifier {
+  private static final Set<String> ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+
   private final HttpClient httpClient = HttpClient.newHttpClient();
   private final ObjectMapper objectMapper;
+  private final GoogleJwksKeys jwksKeys;
   private final Set<String> googleClientIds;
+  private final String tokeninfoUri;
+  private final boolean tokeninfoFallback;
 
   public GoogleTokenVerifier(
       ObjectMapper objectMapper,
-      @Value("${security.google.clientId:}") String googleClientId
+      GoogleJwksKeys jwksKeys,
+      @Value("${security.google.clientId:}") String googleClientId,
+      @Value("${security.google.tokeninfo-uri:https://oauth2.googleapis.com/tokeninfo}") String tokeninfoUri,
+      @Value("${security.google.tokeninfo-fallback:true}") boolean tokeninfoFallback
   ) {
     this.objectMapper = objectMapper;
+    this.jwksKeys = jwksKeys;
+    this.tokeninfoUri = tokeninfoUri;
+    this.tokeninfoFallback = tokeninfoFallback;
     this.googleClientIds = Arrays.stream((googleClientId == null ? "" : googleClientId).split(","))
         .map(String::trim)
         .filter(value -> !value.isBlank())
@@ -41,10 +57,51 @@ public class GoogleTokenVerifier {
       throw new IllegalArgumentException("Google Sign-In is not configured");
     }
 
+    JwtParser parser = localParser(normalizedToken);
+    if (parser != null) {
+      try {
+        Claims claims = parser.parseSignedClaims(normalizedToken).getPayload();
+        if (!ISSUERS.contains(claims.getIssuer())) {
+          throw new IllegalArgumentException("Invalid Google token");
+        }
+        Set<String> audiences = claims.getAudience() == null ? Set.of() : claims.getAudience();
+        return extractEmail(
+          audiences.stream().anyMatch(googleClientIds::contains),
+          claims.get("azp"),
+          claims.get("email"),
+          claims.get("email_verified")
+        );
+      } catch (JwtException ex) {
+        throw new IllegalArgumentException("Invalid Google token");
+      }
+    }
+    if (!tokeninfoFallback) {
+      throw new IllegalArgumentException("Google token verification failed");
+    }
+    return verifyWithTokeninfo(normalizedToken);
+  }
+
+  private JwtParser localParser(String token) {
+    int dot = token.indexOf('.');
+    if (dot <= 0) {
+      return null;
+    }
+    try {
+      JsonNode header = objectMapper.readTree(Base64.getUrlDecoder().decode(token.substring(0, dot)));
+      if (!"RS256".equals(header.path("alg").asText())) {
+        return null;
+      }
+      return jwksKeys.parserFor(header.path("kid").asText(""));
+    } catch (Exception ex) {
+      return null;
+    }
+  }
+
+  private String verifyWithTokeninfo(String normalizedToken) {
     try {
       String token = URLEncoder.encode(normalizedToken, StandardCharsets.UTF_8);
       HttpRequest request = HttpRequest.newBuilder()
-          .uri(URI.create("https://oauth2.googleapis.com/tokeninfo?id_token=" + token))
+          .uri(URI.create(tokeninfoUri + "?id_token=" + token))
           .GET()
           .build();
 
@@ -55,20 +112,12 @@ public class GoogleTokenVerifier {
 
       Map<String, Object> payload = objectMapper.readValue(response.body(), Map.class);
       String aud = String.valueOf(payload.getOrDefault("aud", "")).trim();
-      String azp = String.valueOf(payload.getOrDefault("azp", "")).trim();
-      String email = String.valueOf(payload.getOrDefault("email", "")).trim();
-      String emailVerified = String.valueOf(payload.getOrDefault("email_verified", "false"));
-
-      if (!googleClientIds.contains(aud) && !googleClientIds.contains(azp)) {
-        throw new IllegalArgumentException("Google token audience mismatch");
-      }
-      if (!"true".equalsIgnoreCase(emailVerified)) {
-        throw new IllegalArgumentException("Google account email is not verified");
-      }
-      if (email.isBlank()) {
-        throw new IllegalArgumentException("Google token is missing email");
-      }
-      return email;
+      return extractEmail(
+        googleClientIds.contains(aud),
+        payload.get("azp"),
+        payload.get("email"),
+        payload.get("email_verified")
+      );
     } catch (IllegalArgumentException ex) {
       throw ex;
     } catch (Exception ex) {
@@ -76,6 +125,23 @@ public class GoogleTokenVerifier {
     }
   }
 
+  private String extractEmail(boolean audienceMatches, Object azpClaim, Object emailClaim, Object emailVerifiedClaim) {
+    String azp = azpClaim == null ? "" : String.valueOf(azpClaim).trim();
+    String email = emailClaim == null ? "" : String.valueOf(emailClaim).trim();
+    String emailVerified = String.valueOf(emailVerifiedClaim);
+
+    if (!audienceMatches && !googleClientIds.contains(azp)) {
+      throw new IllegalArgumentException("Google token audience mismatch");
+    }
+    if (!"true".equalsIgnoreCase(emailVerified)) {
+      throw new IllegalArgumentException("Google account email is not verified");
+    }
+    if (email.isBlank()) {
+      throw new IllegalArgumentException("Google token is missing email");
+    }
+    return email;
+  }
+
   private String normalizeToken(String tokenInput) {
     if (tokenInput == null) {
       return "";
@@ -0,0 +1,114 @@
+package com.almuhammad.auth.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+
+@Component
+@ConditionalOnProperty(name = "security.otp.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOtpStore implements OtpStore {
+  private final int maxEntries;
+  private final Map<String, Entry> otps = new ConcurrentHashMap<>();
+  private final Map<String, Entry> verifications = new ConcurrentHashMap<>();
+  private final PriorityBlockingQueue<Expiry> expiries =
+    new PriorityBlockingQueue<>(64, Comparator.comparing(Expiry::expiresAt));
+  private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+
+  public InMemoryOtpStore(@Value("${security.otp.max-entries:100000}") int maxEntries) {
+    this.maxEntries = Math.max(1, maxEntries);
+  }
+
+  private record Expiry(String key, boolean verification, Instant expiresAt) {
+    String slot() {
+      return (verification ? "v|" : "o|") + key;
+    }
+  }
+
+  @Override
+  public void saveOtp(String key, String otp, Instant expiresAt) {
+    reserve(otps, key);
+    otps.put(key, new Entry(otp, expiresAt));
+    verifications.remove(key);
+    schedule(new Expiry(key, false, expiresAt));
+  }
+
+  @Override
+  public Entry findOtp(String key, Instant now) {
+    return live(otps, key, now);
+  }
+
+  @Override
+  public void saveVerification(String key, String token, Instant expiresAt) {
+    reserve(verifications, key);
+    verifications.put(key, new Entry(token, expiresAt));
+    schedule(new Expiry(key, true, expiresAt));
+  }
+
+  @Override
+  public Entry findVerification(String key, Instant now) {
+    return live(verifications, key, now);
+  }
+
+  @Override
+  public void remove(String key) {
+    otps.remove(key);
+    verifications.remove(key);
+  }
+
+  @Override
+  public int sweepExpired(Instant now) {
+    int removed = 0;
+    Expiry head;
+    while ((head = expiries.peek()) != null && !head.expiresAt().isAfter(now)) {
+      head = expiries.poll();
+      if (head == null) {
+        break;
+      }
+      Map<String, Entry> store = head.verification() ? verifications : otps;
+      Entry entry = store.get(head.key());
+      if (entry != null && !entry.expiresAt().isAfter(now) && store.remove(head.key(), entry)) {
+        removed++;
+      }
+      scheduled.remove(head.slot());
+      Entry current = store.get(head.key());
+      if (current != null) {
+        schedule(new Expiry(head.key(), head.verification(), current.expiresAt()));
+      }
+    }
+    return removed;
+  }
+
+  private void reserve(Map<String, Entry> store, String key) {
+    if (!store.containsKey(key) && store.size() >= maxEntries) {
+      sweepExpired(Instant.now());
+      if (store.size() >= maxEntries) {
+        throw new OtpRateLimitedException("Too many pending OTP requests, please retry shortly", 30);
+      }
+    }
+  }
+
+  private void schedule(Expiry expiry) {
+    if (scheduled.add(expiry.slot())) {
+      expiries.add(expiry);
+    }
+  }
+
+  private Entry live(Map<String, Entry> store, String key, Instant now) {
+    Entry entry = store.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (now.isAfter(entry.expiresAt())) {
+      store.remove(key, entry);
+      return null;
+    }
+    return entry;
+  }
+}
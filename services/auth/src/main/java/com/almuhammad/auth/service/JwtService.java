@@ -1,10 +1,16 @@
 package com.almuhammad.auth.service;
 
+import com.almuhammad.common.config.TenantTags;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
@@ -12,39 +18,71 @@ import java.util.Map;
 
 @Service
 public class JwtService {
-  private final String secret;
+  private final SecretKey key;
+  private final JwtParser parser;
   private final String issuer;
   private final long expiresMinutes;
+  private final TenantTags tenantTags;
+  private final MeterRegistry meterRegistry;
 
   public JwtService(
       @Value("${security.jwt.secret}") String secret,
       @Value("${security.jwt.issuer}") String issuer,
-      @Value("${security.jwt.expiresMinutes}") long expiresMinutes
+      @Value("${security.jwt.expiresMinutes}") long expiresMinutes,
+      TenantTags tenantTags,
+      MeterRegistry meterRegistry
   ) {
-    this.secret = secret;
+    this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    this.parser = Jwts.parser().verifyWith(key).build();
     this.issuer = issuer;
     this.expiresMinutes = expiresMinutes;
+    this.tenantTags = tenantTags;
+    this.meterRegistry = meterRegistry;
   }
 
   public String generate(String email, String role, String tenantId) {
-    Instant now = Instant.now();
-    Instant exp = now.plusSeconds(expiresMinutes * 60);
-
-    return Jwts.builder()
-      .subject(email)
-      .issuer(issuer)
-      .issuedAt(Date.from(now))
-      .expiration(Date.from(exp))
-      .claims(Map.of("role", role, "tenant", tenantId))
-      .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
-      .compact();
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      Instant now = Instant.now();
+      Instant exp = now.plusSeconds(expiresMinutes * 60);
+
+      String token = Jwts.builder()
+        .subject(email)
+        .issuer(issuer)
+        .issuedAt(Date.from(now))
+        .expiration(Date.from(exp))
+        .claims(Map.of("role", role, "tenant", tenantId))
+        .signWith(key)
+        .compact();
+      outcome = "success";
+      return token;
+    } finally {
+      sample.stop(timer("auth.jwt.sign", tenantTags.of(tenantId), outcome));
+    }
   }
 
   public Map<String, Object> parse(String token) {
-    return Jwts.parser()
-      .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
-      .build()
-      .parseSignedClaims(token)
-      .getPayload();
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String tenant = tenantTags.current();
+    String outcome = "invalid";
+    try {
+      Claims claims = parser.parseSignedClaims(token).getPayload();
+      Object tokenTenant = claims.get("tenant");
+      if (tokenTenant != null) {
+        tenant = tenantTags.of(String.valueOf(tokenTenant));
+      }
+      outcome = "valid";
+      return claims;
+    } finally {
+      sample.stop(timer("auth.jwt.verify", tenant, outcome));
+    }
+  }
+
+  private Timer timer(String name, String tenant, String outcome) {
+    return Timer.builder(name)
+      .tag("tenant", tenant)
+      .tag("outcome", outcome)
+      .register(meterRegistry);
   }
 }
@@ -1,70 +1,114 @@
 package com.almuhammad.auth.service;
 
+import com.almuhammad.common.config.TenantTags;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
 import java.time.Instant;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class MobileOtpService {
   private final SecureRandom random = new SecureRandom();
-  private final Map<String, OtpRecord> otpStore = new ConcurrentHashMap<>();
-  private final Map<String, VerificationRecord> verificationStore = new ConcurrentHashMap<>();
+  private final OtpStore store;
+  private final OtpRateLimiter rateLimiter;
   private final long expiresMinutes;
   private final boolean exposeOtpInResponse;
+  private final TenantTags tenantTags;
+  private final MeterRegistry meterRegistry;
 
   public MobileOtpService(
+      OtpStore store,
+      OtpRateLimiter rateLimiter,
+      TenantTags tenantTags,
+      MeterRegistry meterRegistry,
       @Value("${security.otp.expiresMinutes:5}") long expiresMinutes,
       @Value("${security.otp.exposeInResponse:true}") boolean exposeOtpInResponse
   ) {
+    this.store = store;
+    this.rateLimiter = rateLimiter;
+    this.tenantTags = tenantTags;
+    this.meterRegistry = meterRegistry;
     this.expiresMinutes = expiresMinutes;
     this.exposeOtpInResponse = exposeOtpInResponse;
   }
 
   public OtpRequestResult generateOtp(String tenantId, String mobileNumber) {
-    String otp = String.format("%06d", random.nextInt(1_000_000));
-    Instant expiresAt = Instant.now().plusSeconds(expiresMinutes * 60);
-    String key = key(tenantId, mobileNumber);
-    otpStore.put(key, new OtpRecord(otp, expiresAt));
-    verificationStore.remove(key);
-    return new OtpRequestResult(expiresAt, exposeOtpInResponse ? otp : null);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      String key = key(tenantId, mobileNumber);
+      rateLimiter.acquireRequest(tenantId, key);
+      String otp = String.format("%06d", random.nextInt(1_000_000));
+      Instant expiresAt = Instant.now().plusSeconds(expiresMinutes * 60);
+      store.saveOtp(key, otp, expiresAt);
+      outcome = "success";
+      return new OtpRequestResult(expiresAt, exposeOtpInResponse ? otp : null);
+    } catch (OtpRateLimitedException ex) {
+      outcome = "rate_limited";
+      throw ex;
+    } finally {
+      sample.stop(timer("generate", tenantId, outcome));
+    }
   }
 
   public String verifyOtp(String tenantId, String mobileNumber, String otp) {
-    String key = key(tenantId, mobileNumber);
-    OtpRecord record = otpStore.get(key);
-    if (record == null || Instant.now().isAfter(record.expiresAt())) {
-      otpStore.remove(key);
-      throw new IllegalArgumentException("OTP expired. Request a new OTP.");
-    }
-    if (!record.otp().equals(otp)) {
-      throw new IllegalArgumentException("Invalid OTP.");
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      String key = key(tenantId, mobileNumber);
+      rateLimiter.acquireVerify(key);
+      OtpStore.Entry record = store.findOtp(key, Instant.now());
+      if (record == null) {
+        outcome = "expired";
+        throw new IllegalArgumentException("OTP expired. Request a new OTP.");
+      }
+      if (!record.value().equals(otp)) {
+        outcome = "invalid";
+        throw new IllegalArgumentException("Invalid OTP.");
+      }
+      String verificationToken = UUID.randomUUID().toString();
+      store.saveVerification(key, verificationToken, record.expiresAt());
+      outcome = "success";
+      return verificationToken;
+    } catch (OtpRateLimitedException ex) {
+      outcome = "rate_limited";
+      throw ex;
+    } finally {
+      sample.stop(timer("verify", tenantId, outcome));
     }
-    String verificationToken = UUID.randomUUID().toString();
-    verificationStore.put(key, new VerificationRecord(verificationToken, record.expiresAt()));
-    return verificationToken;
   }
 
   public void assertVerified(String tenantId, String mobileNumber, String verificationToken) {
-    String key = key(tenantId, mobileNumber);
-    VerificationRecord record = verificationStore.get(key);
-    if (record == null || Instant.now().isAfter(record.expiresAt())) {
-      verificationStore.remove(key);
+    OtpStore.Entry record = store.findVerification(key(tenantId, mobileNumber), Instant.now());
+    if (record == null) {
       throw new IllegalArgumentException("Mobile verification expired. Verify OTP again.");
     }
-    if (!record.token().equals(verificationToken)) {
+    if (!record.value().equals(verificationToken)) {
       throw new IllegalArgumentException("Invalid mobile verification token.");
     }
   }
 
   public void clearVerification(String tenantId, String mobileNumber) {
-    String key = key(tenantId, mobileNumber);
-    otpStore.remove(key);
-    verificationStore.remove(key);
+    store.remove(key(tenantId, mobileNumber));
+  }
+
+  @Scheduled(fixedDelayString = "${security.otp.sweep-interval-ms:30000}")
+  public void sweepExpired() {
+    store.sweepExpired(Instant.now());
+    rateLimiter.evictIdle();
+  }
+
+  private Timer timer(String operation, String tenantId, String outcome) {
+    return Timer.builder("auth.otp")
+      .tag("operation", operation)
+      .tag("tenant", tenantTags.of(tenantId))
+      .tag("outcome", outcome)
+      .register(meterRegistry);
   }
 
   private String key(String tenantId, String mobileNumber) {
@@ -72,6 +116,4 @@ public class MobileOtpService {
   }
 
   public record OtpRequestResult(Instant expiresAt, String otpForDemo) {}
-  private record OtpRecord(String otp, Instant expiresAt) {}
-  private record VerificationRecord(String token, Instant expiresAt) {}
 }
@@ -0,0 +1,14 @@
+package com.almuhammad.auth.service;
+
+public class OtpRateLimitedException extends RuntimeException {
+  private final long retryAfterSeconds;
+
+  public OtpRateLimitedException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
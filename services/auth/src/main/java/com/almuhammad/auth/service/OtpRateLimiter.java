@@ -0,0 +1,101 @@
+package com.almuhammad.auth.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class OtpRateLimiter {
+  private final BucketLimits perMobile;
+  private final BucketLimits perTenant;
+  private final BucketLimits verifyPerMobile;
+  private final int maxBuckets;
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+  public OtpRateLimiter(
+      @Value("${security.otp.rate-limit.per-mobile.capacity:3}") int mobileCapacity,
+      @Value("${security.otp.rate-limit.per-mobile.refill-per-minute:1}") double mobileRefill,
+      @Value("${security.otp.rate-limit.per-tenant.capacity:200}") int tenantCapacity,
+      @Value("${security.otp.rate-limit.per-tenant.refill-per-minute:100}") double tenantRefill,
+      @Value("${security.otp.rate-limit.verify-per-mobile.capacity:5}") int verifyCapacity,
+      @Value("${security.otp.rate-limit.verify-per-mobile.refill-per-minute:1}") double verifyRefill,
+      @Value("${security.otp.rate-limit.max-buckets:100000}") int maxBuckets
+  ) {
+    this.perMobile = new BucketLimits(mobileCapacity, mobileRefill);
+    this.perTenant = new BucketLimits(tenantCapacity, tenantRefill);
+    this.verifyPerMobile = new BucketLimits(verifyCapacity, verifyRefill);
+    this.maxBuckets = Math.max(1, maxBuckets);
+  }
+
+  private record BucketLimits(int capacity, double refillPerMinute) {
+    long refillNanosPerToken() {
+      return (long) (60_000_000_000L / Math.max(refillPerMinute, 0.001));
+    }
+  }
+
+  public void acquireRequest(String tenantId, String mobileKey) {
+    acquire("tenant|" + tenantId, perTenant, "Too many OTP requests, please retry later");
+    acquire("mobile|" + mobileKey, perMobile, "Too many OTP requests for this number, please retry later");
+  }
+
+  public void acquireVerify(String mobileKey) {
+    acquire("verify|" + mobileKey, verifyPerMobile, "Too many OTP attempts, please retry later");
+  }
+
+  public void evictIdle() {
+    long now = System.nanoTime();
+    buckets.values().removeIf(bucket -> bucket.isFull(now));
+  }
+
+  private void acquire(String key, BucketLimits limits, String message) {
+    TokenBucket bucket = buckets.get(key);
+    if (bucket == null) {
+      if (buckets.size() >= maxBuckets) {
+        evictIdle();
+        if (buckets.size() >= maxBuckets) {
+          throw new OtpRateLimitedException("Too many OTP requests, please retry later", 30);
+        }
+      }
+      bucket = buckets.computeIfAbsent(key, ignored -> new TokenBucket(limits));
+    }
+    long waitNanos = bucket.tryAcquire(System.nanoTime());
+    if (waitNanos > 0) {
+      throw new OtpRateLimitedException(message, Math.max(1, waitNanos / 1_000_000_000L));
+    }
+  }
+
+  private static final class TokenBucket {
+    private final int capacity;
+    private final long refillNanosPerToken;
+    private double tokens;
+    private long refilledAtNanos;
+
+    TokenBucket(BucketLimits limits) {
+      this.capacity = Math.max(1, limits.capacity());
+      this.refillNanosPerToken = limits.refillNanosPerToken();
+      this.tokens = capacity;
+      this.refilledAtNanos = System.nanoTime();
+    }
+
+    synchronized long tryAcquire(long now) {
+      refill(now);
+      if (tokens >= 1) {
+        tokens -= 1;
+        return 0;
+      }
+      return (long) ((1 - tokens) * refillNanosPerToken);
+    }
+
+    synchronized boolean isFull(long now) {
+      refill(now);
+      return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+      tokens = Math.min(capacity, tokens + (double) (now - refilledAtNanos) / refillNanosPerToken);
+      refilledAtNanos = now;
+    }
+  }
+}
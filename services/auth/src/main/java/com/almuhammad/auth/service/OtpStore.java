@@ -0,0 +1,14 @@
+package com.almuhammad.auth.service;
+
+import java.time.Instant;
+
+public interface OtpStore {
+  void saveOtp(String key, String otp, Instant expiresAt);
+  Entry findOtp(String key, Instant now);
+  void saveVerification(String key, String token, Instant expiresAt);
+  Entry findVerification(String key, Instant now);
+  void remove(String key);
+  int sweepExpired(Instant now);
+
+  record Entry(String value, Instant expiresAt) {}
+}
@@ -0,0 +1,142 @@
+package com.almuhammad.auth.service;
+
+import com.almuhammad.common.config.TenantTags;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+@Component
+public class PasswordHasher {
+  public static final String NO_PASSWORD = "!external";
+
+  private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./A-Za-z0-9]{53}$");
+
+  private final PasswordEncoder encoder;
+  private final int strength;
+  private final long timeoutMillis;
+  private final ThreadPoolExecutor executor;
+  private final TenantTags tenantTags;
+  private final MeterRegistry meterRegistry;
+
+  public PasswordHasher(
+      PasswordEncoder encoder,
+      TenantTags tenantTags,
+      MeterRegistry meterRegistry,
+      @Value("${security.password.bcrypt-strength:10}") int strength,
+      @Value("${security.password.hash-threads:0}") int threads,
+      @Value("${security.password.queue-capacity:64}") int queueCapacity,
+      @Value("${security.password.timeout-ms:5000}") long timeoutMillis
+  ) {
+    this.encoder = encoder;
+    this.tenantTags = tenantTags;
+    this.meterRegistry = meterRegistry;
+    this.strength = strength;
+    this.timeoutMillis = timeoutMillis;
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    AtomicInteger counter = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(
+      poolSize,
+      poolSize,
+      0L,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+      runnable -> {
+        Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      },
+      new ThreadPoolExecutor.AbortPolicy()
+    );
+    Gauge.builder("auth.password.hash.queue", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+  }
+
+  public String encode(String rawPassword) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      String hash = submit(() -> encoder.encode(rawPassword));
+      outcome = "success";
+      return hash;
+    } catch (PasswordHashingBusyException ex) {
+      outcome = "busy";
+      throw ex;
+    } finally {
+      sample.stop(timer("encode", outcome));
+    }
+  }
+
+  public boolean matches(String rawPassword, String passwordHash) {
+    if (rawPassword == null || passwordHash == null || !BCRYPT.matcher(passwordHash).matches()) {
+      return false;
+    }
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      boolean matched = submit(() -> encoder.matches(rawPassword, passwordHash));
+      outcome = matched ? "success" : "mismatch";
+      return matched;
+    } catch (PasswordHashingBusyException ex) {
+      outcome = "busy";
+      throw ex;
+    } finally {
+      sample.stop(timer("matches", outcome));
+    }
+  }
+
+  public boolean needsRehash(String passwordHash) {
+    var matcher = BCRYPT.matcher(passwordHash);
+    return matcher.matches() && Integer.parseInt(matcher.group(1)) != strength;
+  }
+
+  private <T> T submit(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException ex) {
+      throw new PasswordHashingBusyException("Too many sign-in attempts, please retry shortly");
+    }
+    try {
+      return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException ex) {
+      future.cancel(true);
+      throw new PasswordHashingBusyException("Too many sign-in attempts, please retry shortly");
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new PasswordHashingBusyException("Password hashing was interrupted");
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  private Timer timer(String operation, String outcome) {
+    return Timer.builder("auth.password.hash")
+      .tag("operation", operation)
+      .tag("tenant", tenantTags.current())
+      .tag("outcome", outcome)
+      .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
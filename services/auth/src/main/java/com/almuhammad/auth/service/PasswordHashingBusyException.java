@@ -0,0 +1,7 @@
+package com.almuhammad.auth.service;
+
+public class PasswordHashingBusyException extends RuntimeException {
+  public PasswordHashingBusyException(String message) {
+    super(message);
+  }
+}
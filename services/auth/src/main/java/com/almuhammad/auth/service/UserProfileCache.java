@@ -0,0 +1,115 @@
+package com.almuhammad.auth.service;
+
+import com.almuhammad.auth.domain.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Component
+public class UserProfileCache {
+  private final long ttlMillis;
+  private final int maxEntries;
+  private final Profiles cache;
+  private final Counter hits;
+  private final Counter misses;
+
+  public UserProfileCache(
+      @Value("${security.profile-cache.ttl-seconds:30}") long ttlSeconds,
+      @Value("${security.profile-cache.max-entries:10000}") int maxEntries,
+      MeterRegistry meterRegistry
+  ) {
+    this.ttlMillis = Math.max(0, ttlSeconds) * 1000;
+    this.maxEntries = Math.max(0, maxEntries);
+    this.cache = new Profiles(Math.max(1, this.maxEntries));
+    this.hits = Counter.builder("auth.profile.cache")
+      .tag("result", "hit")
+      .register(meterRegistry);
+    this.misses = Counter.builder("auth.profile.cache")
+      .tag("result", "miss")
+      .register(meterRegistry);
+    Gauge.builder("auth.profile.cache.size", this, UserProfileCache::size).register(meterRegistry);
+  }
+
+  public record UserProfile(
+      String email,
+      String role,
+      String tenantId,
+      String firstName,
+      String lastName,
+      String mobileNumber
+  ) {
+    static UserProfile of(User user) {
+      return new UserProfile(
+        user.getEmail(),
+        user.getRole(),
+        user.getTenantId(),
+        user.getFirstName(),
+        user.getLastName(),
+        user.getMobileNumber()
+      );
+    }
+  }
+
+  private record ProfileKey(String tenantId, String email) {}
+
+  private record Entry(UserProfile profile, long expiresAtMillis) {}
+
+  public UserProfile get(String tenantId, String email, Supplier<User> loader) {
+    if (ttlMillis == 0 || maxEntries == 0) {
+      misses.increment();
+      return UserProfile.of(loader.get());
+    }
+
+    ProfileKey key = new ProfileKey(tenantId, email);
+    long now = System.currentTimeMillis();
+    synchronized (cache) {
+      Entry cached = cache.get(key);
+      if (cached != null) {
+        if (cached.expiresAtMillis() > now) {
+          hits.increment();
+          return cached.profile();
+        }
+        cache.remove(key);
+      }
+    }
+
+    misses.increment();
+    UserProfile profile = UserProfile.of(loader.get());
+    synchronized (cache) {
+      cache.put(key, new Entry(profile, now + ttlMillis));
+    }
+    return profile;
+  }
+
+  public void invalidate(String tenantId, String email) {
+    synchronized (cache) {
+      cache.remove(new ProfileKey(tenantId, email));
+    }
+  }
+
+  private int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  private static final class Profiles extends LinkedHashMap<ProfileKey, Entry> {
+    private final int maxEntries;
+
+    private Profiles(int maxEntries) {
+      super(16, 0.75f, true);
+      this.maxEntries = maxEntries;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<ProfileKey, Entry> eldest) {
+      return size() > maxEntries;
+    }
+  }
+}
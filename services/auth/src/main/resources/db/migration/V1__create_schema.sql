@@ -0,0 +1,23 @@
+create table if not exists users (
+  id bigint generated by default as identity primary key,
+  tenant_id varchar(255),
+  email varchar(255) not null,
+  first_name varchar(255),
+  last_name varchar(255),
+  mobile_number varchar(255),
+  password_hash varchar(255) not null,
+  role varchar(255) not null,
+  constraint uk_users_tenant_email unique (tenant_id, email),
+  constraint uk_users_tenant_mobile unique (tenant_id, mobile_number)
+);
+
+create table if not exists mobile_otps (
+  otp_key varchar(255) primary key,
+  otp varchar(255),
+  otp_expires_at timestamp(6) with time zone,
+  verification_token varchar(255),
+  verification_expires_at timestamp(6) with time zone,
+  expires_at timestamp(6) with time zone not null
+);
+
+create index if not exists idx_mobile_otps_expires_at on mobile_otps (expires_at);
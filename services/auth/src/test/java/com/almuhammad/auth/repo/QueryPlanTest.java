@@ -0,0 +1,80 @@
+package com.almuhammad.auth.repo;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+  @Container
+  static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+  private static Connection connection;
+
+  @BeforeAll
+  static void migrateAndSeed() throws SQLException {
+    Flyway.configure()
+      .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+      .schemas("auth")
+      .load()
+      .migrate();
+    connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("set search_path to auth");
+      statement.execute("insert into users (tenant_id, email, mobile_number, password_hash, role)"
+        + " select 'tenant-' || (n % 100), 'user' || n || '@example.com', '+91' || (9000000000 + n), 'hash', 'USER'"
+        + " from generate_series(1, 50000) n");
+      statement.execute("insert into mobile_otps (otp_key, otp, otp_expires_at, expires_at)"
+        + " select 'tenant-' || (n % 100) || '|+91' || (9000000000 + n), '123456', now() + interval '5 minutes',"
+        + " now() + (n % 1000) * interval '1 second' - interval '5 seconds'"
+        + " from generate_series(1, 20000) n");
+      statement.execute("analyze users");
+      statement.execute("analyze mobile_otps");
+    }
+  }
+
+  @AfterAll
+  static void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void userByEmailUsesTenantEmailConstraint() throws SQLException {
+    assertUsesIndex("uk_users_tenant_email",
+      "select * from users where email = 'user42@example.com' and tenant_id = 'tenant-42'");
+  }
+
+  @Test
+  void userByMobileUsesTenantMobileConstraint() throws SQLException {
+    assertUsesIndex("uk_users_tenant_mobile",
+      "select * from users where mobile_number = '+919000000042' and tenant_id = 'tenant-42'");
+  }
+
+  @Test
+  void otpSweepUsesExpiryIndex() throws SQLException {
+    assertUsesIndex("idx_mobile_otps_expires_at", "delete from mobile_otps where expires_at < now()");
+  }
+
+  private static void assertUsesIndex(String index, String sql) throws SQLException {
+    StringBuilder plan = new StringBuilder();
+    try (Statement statement = connection.createStatement();
+         ResultSet rows = statement.executeQuery("explain " + sql)) {
+      while (rows.next()) {
+        plan.append(rows.getString(1)).append('\n');
+      }
+    }
+    assertThat(plan.toString()).as(sql).contains(index).doesNotContain("Seq Scan");
+  }
+}
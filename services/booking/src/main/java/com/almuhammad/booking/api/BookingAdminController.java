@@ -4,11 +4,19 @@ import com.almuhammad.booking.domain.Booking;
 import com.almuhammad.booking.domain.BookingDeletionAudit;
 import com.almuhammad.booking.repo.BookingDeletionAuditRepository;
 import com.almuhammad.booking.repo.BookingRepository;
+import com.almuhammad.booking.repo.BookingSummary;
+import com.almuhammad.booking.service.BookingExporter;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
@@ -17,19 +25,68 @@ import java.util.Map;
 public class BookingAdminController {
   private final BookingRepository repo;
   private final BookingDeletionAuditRepository auditRepo;
+  private final BookingExporter exporter;
+  private final int defaultPageSize;
+  private final int maxPageSize;
 
-  public BookingAdminController(BookingRepository repo, BookingDeletionAuditRepository auditRepo) {
+  public BookingAdminController(
+      BookingRepository repo,
+      BookingDeletionAuditRepository auditRepo,
+      BookingExporter exporter,
+      @Value("${booking.admin.page-size:100}") int defaultPageSize,
+      @Value("${booking.admin.max-page-size:500}") int maxPageSize
+  ) {
     this.repo = repo;
     this.auditRepo = auditRepo;
+    this.exporter = exporter;
+    this.defaultPageSize = defaultPageSize;
+    this.maxPageSize = maxPageSize;
   }
 
   public record DeleteRequest(String reason) {}
+  private record Cursor(Instant createdAt, Long id) {}
 
   @GetMapping("/bookings")
-  public ResponseEntity<List<Booking>> list(
+  public ResponseEntity<?> list(
+      @RequestHeader(value = "X-Tenant-ID", required = false) String tenant,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "limit", required = false) Integer limit
+  ) {
+    String tenantId = normalizeTenant(tenant);
+    int pageSize = Math.max(1, Math.min(limit == null ? defaultPageSize : limit, maxPageSize));
+    PageRequest window = PageRequest.of(0, pageSize + 1);
+
+    List<BookingSummary> rows;
+    if (cursor == null || cursor.isBlank()) {
+      rows = repo.findFirstPageByTenantId(tenantId, window);
+    } else {
+      Cursor after = decodeCursor(cursor);
+      if (after == null) {
+        return ResponseEntity.badRequest().body(Map.of("error", "Invalid cursor"));
+      }
+      rows = repo.findPageByTenantIdAfter(tenantId, after.createdAt(), after.id(), window);
+    }
+
+    if (rows.size() <= pageSize) {
+      return ResponseEntity.ok(rows);
+    }
+    List<BookingSummary> page = rows.subList(0, pageSize);
+    BookingSummary last = page.get(pageSize - 1);
+    return ResponseEntity.ok()
+      .header("X-Next-Cursor", encodeCursor(last.createdAt(), last.id()))
+      .body(page);
+  }
+
+  @GetMapping("/bookings/export")
+  public ResponseEntity<StreamingResponseBody> export(
       @RequestHeader(value = "X-Tenant-ID", required = false) String tenant
   ) {
-    return ResponseEntity.ok(repo.findByTenantId(normalizeTenant(tenant)));
+    String tenantId = normalizeTenant(tenant);
+    StreamingResponseBody body = out -> exporter.writeNdjson(tenantId, out);
+    return ResponseEntity.ok()
+      .contentType(MediaType.APPLICATION_NDJSON)
+      .header("Content-Disposition", "attachment; filename=\"bookings-" + tenantId + ".ndjson\"")
+      .body(body);
   }
 
   @DeleteMapping("/bookings/{id}")
@@ -67,6 +124,21 @@ public class BookingAdminController {
     return ResponseEntity.ok(Map.of("message", "Booking deleted", "reason", reason));
   }
 
+  private String encodeCursor(Instant createdAt, Long id) {
+    String raw = createdAt + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private Cursor decodeCursor(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+      int separator = raw.indexOf('|');
+      return new Cursor(Instant.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+    } catch (Exception ex) {
+      return null;
+    }
+  }
+
   private String normalizeTenant(String tenant) {
     if (tenant == null || tenant.isBlank()) {
       return "public";
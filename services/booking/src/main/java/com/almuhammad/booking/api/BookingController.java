@@ -2,6 +2,7 @@ package com.almuhammad.booking.api;
 
 import com.almuhammad.booking.domain.Booking;
 import com.almuhammad.booking.repo.BookingRepository;
+import com.almuhammad.booking.repo.BookingSummary;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.http.ResponseEntity;
@@ -59,7 +60,7 @@ public class BookingController {
     if (user == null || user.isBlank()) {
       return ResponseEntity.status(401).body(Map.of("error", "Unauthorized"));
     }
-    List<Booking> bookings = repo.findByTenantIdAndUserEmailOrderByCreatedAtDesc(
+    List<BookingSummary> bookings = repo.findSummariesByTenantIdAndUserEmail(
         normalizeTenant(tenant),
         user.trim().toLowerCase()
     );
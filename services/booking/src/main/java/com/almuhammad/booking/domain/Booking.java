@@ -6,7 +6,12 @@ import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "bookings")
+@Table(
+  name = "bookings",
+  indexes = {
+    @Index(name = "idx_bookings_tenant_created", columnList = "tenant_id, created_at, id")
+  }
+)
 public class Booking {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -27,10 +32,10 @@ public class Booking {
   @Column(nullable = false)
   private String userEmail;
 
-  @Column
+  @Column(name = "tenant_id")
   private String tenantId;
 
-  @Column(nullable = false)
+  @Column(name = "created_at", nullable = false)
   private Instant createdAt;
 
   public Long getId() { return id; }
@@ -1,13 +1,57 @@
 package com.almuhammad.booking.repo;
 
 import com.almuhammad.booking.domain.Booking;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
   Optional<Booking> findByIdAndTenantId(Long id, String tenantId);
   List<Booking> findByTenantId(String tenantId);
-  List<Booking> findByTenantIdAndUserEmailOrderByCreatedAtDesc(String tenantId, String userEmail);
+
+  @Transactional(readOnly = true)
+  @Query("select new com.almuhammad.booking.repo.BookingSummary("
+    + "b.id, b.packageId, b.travelerName, b.travelDate, b.status, b.userEmail, b.createdAt)"
+    + " from Booking b where b.tenantId = :tenantId and b.userEmail = :userEmail"
+    + " order by b.createdAt desc")
+  List<BookingSummary> findSummariesByTenantIdAndUserEmail(
+    @Param("tenantId") String tenantId,
+    @Param("userEmail") String userEmail
+  );
+
+  @Transactional(readOnly = true)
+  @Query("select new com.almuhammad.booking.repo.BookingSummary("
+    + "b.id, b.packageId, b.travelerName, b.travelDate, b.status, b.userEmail, b.createdAt)"
+    + " from Booking b where b.tenantId = :tenantId order by b.createdAt desc, b.id desc")
+  List<BookingSummary> findFirstPageByTenantId(@Param("tenantId") String tenantId, Pageable pageable);
+
+  @Transactional(readOnly = true)
+  @Query("select new com.almuhammad.booking.repo.BookingSummary("
+    + "b.id, b.packageId, b.travelerName, b.travelDate, b.status, b.userEmail, b.createdAt)"
+    + " from Booking b where b.tenantId = :tenantId"
+    + " and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id))"
+    + " order by b.createdAt desc, b.id desc")
+  List<BookingSummary> findPageByTenantIdAfter(
+    @Param("tenantId") String tenantId,
+    @Param("createdAt") Instant createdAt,
+    @Param("id") Long id,
+    Pageable pageable
+  );
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select b from Booking b where b.tenantId = :tenantId order by b.createdAt desc, b.id desc")
+  Stream<Booking> streamByTenantId(@Param("tenantId") String tenantId);
 }
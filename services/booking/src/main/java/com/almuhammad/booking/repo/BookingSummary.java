@@ -0,0 +1,14 @@
+package com.almuhammad.booking.repo;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record BookingSummary(
+  Long id,
+  String packageId,
+  String travelerName,
+  LocalDate travelDate,
+  String status,
+  String userEmail,
+  Instant createdAt
+) {}
@@ -0,0 +1,51 @@
+package com.almuhammad.booking.service;
+
+import com.almuhammad.booking.domain.Booking;
+import com.almuhammad.booking.repo.BookingRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+@Service
+public class BookingExporter {
+  private final BookingRepository repo;
+  private final EntityManager entityManager;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTx;
+
+  public BookingExporter(
+      BookingRepository repo,
+      EntityManager entityManager,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager
+  ) {
+    this.repo = repo;
+    this.entityManager = entityManager;
+    this.objectMapper = objectMapper;
+    this.readOnlyTx = new TransactionTemplate(transactionManager);
+    this.readOnlyTx.setReadOnly(true);
+  }
+
+  public void writeNdjson(String tenantId, OutputStream out) {
+    readOnlyTx.executeWithoutResult(status -> {
+      try (Stream<Booking> rows = repo.streamByTenantId(tenantId)) {
+        rows.forEach(booking -> {
+          try {
+            out.write(objectMapper.writeValueAsBytes(booking));
+            out.write('\n');
+          } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+          }
+          entityManager.detach(booking);
+        });
+      }
+    });
+  }
+}
@@ -0,0 +1,26 @@
+create table if not exists bookings (
+  id bigint generated by default as identity primary key,
+  package_id varchar(255) not null,
+  traveler_name varchar(255) not null,
+  travel_date date not null,
+  status varchar(255) not null,
+  user_email varchar(255) not null,
+  tenant_id varchar(255),
+  created_at timestamp(6) with time zone not null
+);
+
+create index if not exists idx_bookings_tenant_created on bookings (tenant_id, created_at, id);
+
+create table if not exists booking_deletion_audit (
+  id bigint generated by default as identity primary key,
+  booking_id bigint not null,
+  package_id varchar(255),
+  traveler_name varchar(255),
+  travel_date date,
+  booking_status varchar(255),
+  user_email varchar(255),
+  reason varchar(255) not null,
+  deleted_by varchar(255) not null,
+  tenant_id varchar(255) not null,
+  deleted_at timestamp(6) with time zone not null
+);
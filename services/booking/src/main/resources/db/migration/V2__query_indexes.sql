@@ -0,0 +1,3 @@
+-- findByTenantIdAndUserEmailOrderByCreatedAtDesc
+create index if not exists idx_bookings_tenant_user_created
+  on bookings (tenant_id, user_email, created_at desc);
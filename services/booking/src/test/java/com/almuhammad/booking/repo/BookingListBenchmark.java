@@ -0,0 +1,140 @@
+package com.almuhammad.booking.repo;
+
+import com.almuhammad.booking.BookingApplication;
+import com.almuhammad.booking.domain.Booking;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingListBenchmark {
+  private static final String TENANT = "public";
+  private static final String USER = "user@almuhammad.com";
+  private static final int TOTAL_ROWS = 10_000;
+  private static final int ADMIN_PAGE_SIZE = 100;
+
+  @Param({"20", "200"})
+  public int userBookings;
+
+  private PostgreSQLContainer<?> postgres;
+  private ConfigurableApplicationContext context;
+  private BookingRepository repo;
+  private EntityManager entityManager;
+  private TransactionTemplate transaction;
+  private ObjectMapper objectMapper;
+
+  @Setup
+  public void setUp() {
+    postgres = new PostgreSQLContainer<>("postgres:16");
+    postgres.start();
+    context = new SpringApplicationBuilder(BookingApplication.class)
+      .web(WebApplicationType.NONE)
+      .run(
+        "--spring.datasource.url=" + postgres.getJdbcUrl() + "&currentSchema=booking",
+        "--spring.datasource.username=" + postgres.getUsername(),
+        "--spring.datasource.password=" + postgres.getPassword()
+      );
+    repo = context.getBean(BookingRepository.class);
+    entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+    transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    objectMapper = context.getBean(ObjectMapper.class);
+    seed(context.getBean(JdbcTemplate.class));
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+    postgres.stop();
+  }
+
+  @Benchmark
+  public byte[] entityList() {
+    return transaction.execute(status -> serialize(entityManager.createQuery(
+        "select b from Booking b where b.tenantId = :tenantId and b.userEmail = :userEmail"
+          + " order by b.createdAt desc", Booking.class)
+      .setParameter("tenantId", TENANT)
+      .setParameter("userEmail", USER)
+      .getResultList()));
+  }
+
+  @Benchmark
+  public byte[] summaryList() {
+    return serialize(repo.findSummariesByTenantIdAndUserEmail(TENANT, USER));
+  }
+
+  @Benchmark
+  public byte[] entityAdminPage() {
+    return transaction.execute(status -> serialize(entityManager.createQuery(
+        "select b from Booking b where b.tenantId = :tenantId order by b.createdAt desc, b.id desc", Booking.class)
+      .setParameter("tenantId", TENANT)
+      .setMaxResults(ADMIN_PAGE_SIZE + 1)
+      .getResultList()));
+  }
+
+  @Benchmark
+  public byte[] summaryAdminPage() {
+    return serialize(repo.findFirstPageByTenantId(TENANT, PageRequest.of(0, ADMIN_PAGE_SIZE + 1)));
+  }
+
+  private byte[] serialize(Object value) {
+    try {
+      return objectMapper.writeValueAsBytes(value);
+    } catch (Exception ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private void seed(JdbcTemplate jdbc) {
+    Instant now = Instant.now();
+    List<Object[]> rows = new ArrayList<>(TOTAL_ROWS);
+    for (int i = 0; i < TOTAL_ROWS; i++) {
+      String email = i < userBookings ? USER : "traveler" + i + "@example.com";
+      rows.add(new Object[] {
+        String.valueOf(i % 50 + 1),
+        "Traveler " + i,
+        Date.valueOf(LocalDate.now().plusDays(30 + i % 300)),
+        "reserved",
+        email,
+        TENANT,
+        Timestamp.from(now.minusSeconds(i))
+      });
+    }
+    jdbc.batchUpdate("insert into bookings (package_id, traveler_name, travel_date, status, user_email, tenant_id, created_at)"
+      + " values (?, ?, ?, ?, ?, ?, ?)", rows);
+    jdbc.execute("analyze bookings");
+  }
+}
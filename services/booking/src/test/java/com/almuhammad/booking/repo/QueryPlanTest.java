@@ -0,0 +1,78 @@
+package com.almuhammad.booking.repo;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+  @Container
+  static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+  private static Connection connection;
+
+  @BeforeAll
+  static void migrateAndSeed() throws SQLException {
+    Flyway.configure()
+      .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+      .schemas("booking")
+      .load()
+      .migrate();
+    connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("set search_path to booking");
+      statement.execute("insert into bookings (package_id, traveler_name, travel_date, status, user_email, tenant_id, created_at)"
+        + " select (n % 50)::text, 'Traveler ' || n, current_date + (n % 300), 'reserved',"
+        + " 'user' || (n % 2000) || '@example.com', 'tenant-' || (n % 100), now() - n * interval '1 minute'"
+        + " from generate_series(1, 50000) n");
+      statement.execute("analyze bookings");
+    }
+  }
+
+  @AfterAll
+  static void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void userBookingsUseTenantUserIndex() throws SQLException {
+    assertUsesIndex("idx_bookings_tenant_user_created", "select id, package_id, status, created_at from bookings"
+      + " where tenant_id = 'tenant-42' and user_email = 'user42@example.com' order by created_at desc");
+  }
+
+  @Test
+  void adminFirstPageUsesTenantCreatedIndex() throws SQLException {
+    assertUsesIndex("idx_bookings_tenant_created", "select id, created_at from bookings where tenant_id = 'tenant-42'"
+      + " order by created_at desc, id desc limit 50");
+  }
+
+  @Test
+  void adminKeysetPageUsesTenantCreatedIndex() throws SQLException {
+    assertUsesIndex("idx_bookings_tenant_created", "select id, created_at from bookings where tenant_id = 'tenant-42'"
+      + " and (created_at < now() - interval '1 day' or (created_at = now() - interval '1 day' and id < 100))"
+      + " order by created_at desc, id desc limit 50");
+  }
+
+  private static void assertUsesIndex(String index, String sql) throws SQLException {
+    StringBuilder plan = new StringBuilder();
+    try (Statement statement = connection.createStatement();
+         ResultSet rows = statement.executeQuery("explain " + sql)) {
+      while (rows.next()) {
+        plan.append(rows.getString(1)).append('\n');
+      }
+    }
+    assertThat(plan.toString()).as(sql).contains(index).doesNotContain("Seq Scan");
+  }
+}
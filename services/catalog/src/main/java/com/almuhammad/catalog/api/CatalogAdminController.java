@@ -1,7 +1,9 @@
 package com.almuhammad.catalog.api;
 
 import com.almuhammad.catalog.domain.UmrahPackage;
+import com.almuhammad.catalog.repo.PackageSummary;
 import com.almuhammad.catalog.repo.UmrahPackageRepository;
+import com.almuhammad.catalog.service.PackageCatalogCache;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,19 +14,21 @@ import java.util.List;
 @RequestMapping("/admin/catalog")
 public class CatalogAdminController {
   private final UmrahPackageRepository repo;
+  private final PackageCatalogCache catalogCache;
 
-  public CatalogAdminController(UmrahPackageRepository repo) {
+  public CatalogAdminController(UmrahPackageRepository repo, PackageCatalogCache catalogCache) {
     this.repo = repo;
+    this.catalogCache = catalogCache;
   }
 
   public record PackageRequest(String code, String name, Integer nights, Integer price, String description) {}
 
   @GetMapping("/packages")
-  public ResponseEntity<List<UmrahPackage>> all(
+  public ResponseEntity<List<PackageSummary>> all(
       @RequestHeader(value = "X-Tenant-ID", required = false) String tenant
   ) {
     String tenantId = normalizeTenant(tenant);
-    return ResponseEntity.ok(repo.findByTenantIdIn(Arrays.asList(tenantId, "public")));
+    return ResponseEntity.ok(repo.findSummariesByTenantIdIn(Arrays.asList(tenantId, "public")));
   }
 
   @PostMapping("/packages")
@@ -40,7 +44,9 @@ public class CatalogAdminController {
     p.setPrice(req.price());
     p.setDescription(req.description());
     p.setTenantId(tenantId);
-    return ResponseEntity.ok(repo.save(p));
+    UmrahPackage saved = repo.save(p);
+    catalogCache.invalidate();
+    return ResponseEntity.ok(saved);
   }
 
   @PutMapping("/packages/{id}")
@@ -56,7 +62,9 @@ public class CatalogAdminController {
     if (req.nights() != null) p.setNights(req.nights());
     if (req.price() != null) p.setPrice(req.price());
     if (req.description() != null) p.setDescription(req.description());
-    return ResponseEntity.ok(repo.save(p));
+    UmrahPackage saved = repo.save(p);
+    catalogCache.invalidate();
+    return ResponseEntity.ok(saved);
   }
 
   @DeleteMapping("/packages/{id}")
@@ -67,6 +75,7 @@ public class CatalogAdminController {
     String tenantId = normalizeTenant(tenant);
     UmrahPackage p = repo.findByIdAndTenantId(id, tenantId).orElseThrow();
     repo.delete(p);
+    catalogCache.invalidate();
     return ResponseEntity.noContent().build();
   }
 
@@ -1,28 +1,43 @@
 package com.almuhammad.catalog.api;
 
-import com.almuhammad.catalog.domain.UmrahPackage;
-import com.almuhammad.catalog.repo.UmrahPackageRepository;
+import com.almuhammad.catalog.service.PackageCatalogCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Arrays;
-import java.util.List;
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/catalog")
 public class CatalogController {
-  private final UmrahPackageRepository repo;
+  private final PackageCatalogCache catalogCache;
+  private final CacheControl cacheControl;
 
-  public CatalogController(UmrahPackageRepository repo) {
-    this.repo = repo;
+  public CatalogController(
+      PackageCatalogCache catalogCache,
+      @Value("${catalog.http.max-age-seconds:30}") long maxAgeSeconds,
+      @Value("${catalog.http.stale-while-revalidate-seconds:300}") long staleWhileRevalidateSeconds
+  ) {
+    this.catalogCache = catalogCache;
+    this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+      .cachePublic()
+      .staleWhileRevalidate(Duration.ofSeconds(staleWhileRevalidateSeconds));
   }
 
   @GetMapping("/packages")
-  public ResponseEntity<List<UmrahPackage>> listPackages(
+  public ResponseEntity<byte[]> listPackages(
       @RequestHeader(value = "X-Tenant-ID", required = false) String tenant
   ) {
     String tenantId = normalizeTenant(tenant);
-    return ResponseEntity.ok(repo.findByTenantIdIn(Arrays.asList(tenantId, "public")));
+    PackageCatalogCache.Listing listing = catalogCache.get(tenantId);
+    return ResponseEntity.ok()
+      .eTag(listing.etag())
+      .cacheControl(cacheControl)
+      .varyBy("X-Tenant-ID")
+      .contentType(MediaType.APPLICATION_JSON)
+      .body(listing.body());
   }
 
   private String normalizeTenant(String tenant) {
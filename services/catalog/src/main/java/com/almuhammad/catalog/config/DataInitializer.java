@@ -2,6 +2,7 @@ package com.almuhammad.catalog.config;
 
 import com.almuhammad.catalog.domain.UmrahPackage;
 import com.almuhammad.catalog.repo.UmrahPackageRepository;
+import com.almuhammad.catalog.service.PackageCatalogCache;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,7 +10,7 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class DataInitializer {
   @Bean
-  public CommandLineRunner seedPackages(UmrahPackageRepository repo) {
+  public CommandLineRunner seedPackages(UmrahPackageRepository repo, PackageCatalogCache catalogCache) {
     return args -> {
       repo.findAll().forEach(p -> {
         if (p.getTenantId() == null || p.getTenantId().isBlank()) {
@@ -46,6 +47,7 @@ public class DataInitializer {
         premium.setTenantId("public");
         repo.save(premium);
       }
+      catalogCache.invalidate();
     };
   }
 }
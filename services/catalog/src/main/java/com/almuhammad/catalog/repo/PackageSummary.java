@@ -0,0 +1,11 @@
+package com.almuhammad.catalog.repo;
+
+public record PackageSummary(
+  Long id,
+  String code,
+  String name,
+  Integer nights,
+  Integer price,
+  String description,
+  String tenantId
+) {}
@@ -2,13 +2,21 @@ package com.almuhammad.catalog.repo;
 
 import com.almuhammad.catalog.domain.UmrahPackage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface UmrahPackageRepository extends JpaRepository<UmrahPackage, Long> {
   Optional<UmrahPackage> findByCode(String code);
-  List<UmrahPackage> findByTenantIdIn(List<String> tenantIds);
+
+  @Transactional(readOnly = true)
+  @Query("select new com.almuhammad.catalog.repo.PackageSummary(p.id, p.code, p.name, p.nights, p.price, p.description, p.tenantId)"
+    + " from UmrahPackage p where p.tenantId in :tenantIds order by p.id")
+  List<PackageSummary> findSummariesByTenantIdIn(@Param("tenantIds") List<String> tenantIds);
+
   Optional<UmrahPackage> findByIdAndTenantId(Long id, String tenantId);
   long countByTenantId(String tenantId);
 }
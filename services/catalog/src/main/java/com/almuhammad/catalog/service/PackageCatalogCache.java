@@ -0,0 +1,125 @@
+package com.almuhammad.catalog.service;
+
+import com.almuhammad.catalog.repo.PackageSummary;
+import com.almuhammad.catalog.repo.UmrahPackageRepository;
+import com.almuhammad.common.config.ReplicaRoutingDataSource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class PackageCatalogCache {
+  private final UmrahPackageRepository repo;
+  private final ObjectMapper objectMapper;
+  private final long ttlMillis;
+  private final long primaryReadMillis;
+  private final Listings listings;
+  private final Map<String, CompletableFuture<Listing>> loading = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+  private volatile long invalidatedAtMillis;
+
+  public PackageCatalogCache(
+      UmrahPackageRepository repo,
+      ObjectMapper objectMapper,
+      @Value("${catalog.cache.ttl-seconds:60}") long ttlSeconds,
+      @Value("${catalog.cache.max-tenants:1000}") int maxTenants,
+      @Value("${datasource.replica.sticky-seconds:10}") long primaryReadSeconds
+  ) {
+    this.repo = repo;
+    this.objectMapper = objectMapper;
+    this.ttlMillis = ttlSeconds * 1000;
+    this.primaryReadMillis = primaryReadSeconds * 1000;
+    this.listings = new Listings(Math.max(1, maxTenants));
+  }
+
+  public Listing get(String tenantId) {
+    Listing current;
+    synchronized (listings) {
+      current = listings.get(tenantId);
+    }
+    if (isFresh(current)) {
+      return current;
+    }
+
+    CompletableFuture<Listing> mine = new CompletableFuture<>();
+    CompletableFuture<Listing> inFlight = loading.putIfAbsent(tenantId, mine);
+    if (inFlight != null) {
+      return inFlight.join();
+    }
+    try {
+      Listing loaded = load(tenantId);
+      synchronized (listings) {
+        listings.put(tenantId, loaded);
+      }
+      mine.complete(loaded);
+      return loaded;
+    } catch (RuntimeException ex) {
+      mine.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      loading.remove(tenantId, mine);
+    }
+  }
+
+  public void invalidate() {
+    invalidatedAtMillis = System.currentTimeMillis();
+    generation.incrementAndGet();
+  }
+
+  private boolean isFresh(Listing listing) {
+    return listing != null
+      && listing.generation() == generation.get()
+      && System.currentTimeMillis() - listing.loadedAtMillis() < ttlMillis;
+  }
+
+  private Listing load(String tenantId) {
+    long loadGeneration = generation.get();
+    List<String> tenantIds = Arrays.asList(tenantId, "public");
+    List<PackageSummary> packages = System.currentTimeMillis() - invalidatedAtMillis < primaryReadMillis
+      ? ReplicaRoutingDataSource.onPrimary(() -> repo.findSummariesByTenantIdIn(tenantIds))
+      : repo.findSummariesByTenantIdIn(tenantIds);
+    try {
+      byte[] body = objectMapper.writeValueAsBytes(packages);
+      return new Listing(body, etagFor(body), loadGeneration, System.currentTimeMillis());
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Unable to serialize package listing", ex);
+    }
+  }
+
+  private String etagFor(byte[] body) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+      return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  public record Listing(byte[] body, String etag, long generation, long loadedAtMillis) {}
+
+  private static final class Listings extends LinkedHashMap<String, Listing> {
+    private final int maxTenants;
+
+    Listings(int maxTenants) {
+      super(16, 0.75f, true);
+      this.maxTenants = maxTenants;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Listing> eldest) {
+      return size() > maxTenants;
+    }
+  }
+}
@@ -0,0 +1,9 @@
+create table if not exists packages (
+  id bigint generated by default as identity primary key,
+  code varchar(255) not null unique,
+  name varchar(255) not null,
+  nights integer not null,
+  price integer not null,
+  tenant_id varchar(255),
+  description varchar(255)
+);
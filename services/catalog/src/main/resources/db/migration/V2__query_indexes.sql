@@ -0,0 +1,2 @@
+-- findByTenantIdIn, countByTenantId
+create index if not exists idx_packages_tenant_id on packages (tenant_id, id);
@@ -0,0 +1,69 @@
+package com.almuhammad.catalog.repo;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+  @Container
+  static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+  private static Connection connection;
+
+  @BeforeAll
+  static void migrateAndSeed() throws SQLException {
+    Flyway.configure()
+      .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+      .schemas("catalog")
+      .load()
+      .migrate();
+    connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("set search_path to catalog");
+      statement.execute("insert into packages (code, name, nights, price, tenant_id, description)"
+        + " select 'PKG-' || n, 'Package ' || n, 7 + n % 14, 100000 + n, 'tenant-' || (n % 200), 'Umrah package ' || n"
+        + " from generate_series(1, 40000) n");
+      statement.execute("analyze packages");
+    }
+  }
+
+  @AfterAll
+  static void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void tenantPackagesUseTenantIndex() throws SQLException {
+    assertUsesIndex("idx_packages_tenant_id", "select id, code, name, nights, price, description, tenant_id from packages"
+      + " where tenant_id in ('public', 'tenant-42') order by id");
+  }
+
+  @Test
+  void tenantPackageCountUsesTenantIndex() throws SQLException {
+    assertUsesIndex("idx_packages_tenant_id", "select count(*) from packages where tenant_id = 'tenant-42'");
+  }
+
+  private static void assertUsesIndex(String index, String sql) throws SQLException {
+    StringBuilder plan = new StringBuilder();
+    try (Statement statement = connection.createStatement();
+         ResultSet rows = statement.executeQuery("explain " + sql)) {
+      while (rows.next()) {
+        plan.append(rows.getString(1)).append('\n');
+      }
+    }
+    assertThat(plan.toString()).as(sql).contains(index).doesNotContain("Seq Scan");
+  }
+}
@@ -0,0 +1,31 @@
+package com.almuhammad.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+@AutoConfiguration
+@Profile("high-throughput")
+@ConditionalOnClass(HikariDataSource.class)
+public class HighThroughputDataSourceConfig {
+  @Bean
+  public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && !environment.containsProperty("DB_POOL_SIZE")) {
+          Integer databaseCores = environment.getProperty("db.pool.database-cores", Integer.class);
+          if (databaseCores != null && databaseCores > 0) {
+            int perCore = environment.getProperty("db.pool.connections-per-core", Integer.class, 2);
+            dataSource.setMaximumPoolSize(databaseCores * perCore + 1);
+          }
+        }
+        return bean;
+      }
+    };
+  }
+}
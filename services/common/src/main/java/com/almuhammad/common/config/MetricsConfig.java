@@ -0,0 +1,43 @@
+package com.almuhammad.common.config;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.data.RepositoryMetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.observation.web.servlet.WebMvcObservationAutoConfiguration;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+@AutoConfiguration(before = {RepositoryMetricsAutoConfiguration.class, WebMvcObservationAutoConfiguration.class})
+@ConditionalOnClass(RepositoryTagsProvider.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MetricsConfig {
+  @Bean
+  public TenantTags tenantTags(@Value("${metrics.tenant-tag.allowed:public}") String[] allowed) {
+    return new TenantTags(allowed);
+  }
+
+  @Bean
+  public RepositoryTagsProvider repositoryTagsProvider(TenantTags tenantTags) {
+    DefaultRepositoryTagsProvider defaults = new DefaultRepositoryTagsProvider();
+    return invocation -> Tags.of(defaults.repositoryTags(invocation)).and("tenant", tenantTags.current());
+  }
+
+  @Bean
+  public ServerRequestObservationConvention serverRequestObservationConvention(TenantTags tenantTags) {
+    return new DefaultServerRequestObservationConvention() {
+      @Override
+      public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context)
+          .and("tenant", tenantTags.of(context.getCarrier().getHeader("X-Tenant-ID")));
+      }
+    };
+  }
+}
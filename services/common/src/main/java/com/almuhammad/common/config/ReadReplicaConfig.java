@@ -0,0 +1,73 @@
+package com.almuhammad.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnClass(HikariDataSource.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "datasource.replica.url")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReadReplicaConfig {
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(
+      DataSourceProperties properties,
+      @Value("${datasource.replica.url}") String url,
+      @Value("${datasource.replica.username:}") String username,
+      @Value("${datasource.replica.password:}") String password
+  ) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl(url);
+    dataSource.setUsername(username.isBlank() ? properties.determineUsername() : username);
+    dataSource.setPassword(password.isBlank() ? properties.determinePassword() : password);
+    dataSource.setReadOnly(true);
+    dataSource.setPoolName("replica");
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica,
+      @Value("${datasource.replica.max-lag-seconds:5}") double maxLagSeconds,
+      @Value("${datasource.replica.lag-check-interval-ms:2000}") long lagCheckIntervalMillis
+  ) {
+    return new ReplicaRoutingDataSource(primary, replica, maxLagSeconds, lagCheckIntervalMillis);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource routing) {
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+
+  @Bean
+  public ReplicaStickinessFilter replicaStickinessFilter(
+      @Value("${datasource.replica.sticky-seconds:10}") long stickySeconds
+  ) {
+    return new ReplicaStickinessFilter(stickySeconds);
+  }
+}
@@ -0,0 +1,104 @@
+package com.almuhammad.common.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+  private static final String LAG_SQL = "select case"
+    + " when not pg_is_in_recovery() then 0"
+    + " when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0"
+    + " else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+  private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+  private final DataSource replica;
+  private final double maxLagSeconds;
+  private final long lagCheckIntervalMillis;
+  private final ScheduledExecutorService lagChecker;
+  private volatile boolean replicaUsable;
+
+  public ReplicaRoutingDataSource(
+      DataSource primary,
+      DataSource replica,
+      double maxLagSeconds,
+      long lagCheckIntervalMillis
+  ) {
+    this.replica = replica;
+    this.maxLagSeconds = maxLagSeconds;
+    this.lagCheckIntervalMillis = Math.max(100, lagCheckIntervalMillis);
+    this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "replica-lag-check");
+      thread.setDaemon(true);
+      return thread;
+    });
+    setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+  }
+
+  enum Target { PRIMARY, REPLICA }
+
+  public static <T> T onPrimary(Supplier<T> work) {
+    boolean pinned = pinToPrimary();
+    try {
+      return work.get();
+    } finally {
+      unpin(pinned);
+    }
+  }
+
+  static boolean pinToPrimary() {
+    if (PRIMARY_ONLY.get() != null) {
+      return false;
+    }
+    PRIMARY_ONLY.set(Boolean.TRUE);
+    return true;
+  }
+
+  static void unpin(boolean pinned) {
+    if (pinned) {
+      PRIMARY_ONLY.remove();
+    }
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    super.afterPropertiesSet();
+    lagChecker.scheduleWithFixedDelay(this::checkReplicaLag, 0, lagCheckIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (replicaUsable
+        && PRIMARY_ONLY.get() == null
+        && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return Target.REPLICA;
+    }
+    return Target.PRIMARY;
+  }
+
+  private void checkReplicaLag() {
+    try (Connection connection = replica.getConnection();
+         Statement statement = connection.createStatement();
+         ResultSet lag = statement.executeQuery(LAG_SQL)) {
+      replicaUsable = lag.next() && lag.getDouble(1) <= maxLagSeconds;
+    } catch (SQLException | RuntimeException ex) {
+      replicaUsable = false;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    lagChecker.shutdownNow();
+  }
+}
@@ -0,0 +1,68 @@
+package com.almuhammad.common.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+  public static final String COOKIE_NAME = "db-primary-until";
+
+  private final long stickySeconds;
+
+  public ReplicaStickinessFilter(long stickySeconds) {
+    this.stickySeconds = Math.max(0, stickySeconds);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    boolean write = !"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod());
+    if (!write && !wroteRecently(request)) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    if (write && stickySeconds > 0) {
+      response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE_NAME,
+          String.valueOf(System.currentTimeMillis() + stickySeconds * 1000))
+        .path("/")
+        .maxAge(Duration.ofSeconds(stickySeconds))
+        .httpOnly(true)
+        .sameSite("Lax")
+        .build()
+        .toString());
+    }
+    boolean pinned = ReplicaRoutingDataSource.pinToPrimary();
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      ReplicaRoutingDataSource.unpin(pinned);
+    }
+  }
+
+  private boolean wroteRecently(HttpServletRequest request) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return false;
+    }
+    for (Cookie cookie : cookies) {
+      if (COOKIE_NAME.equals(cookie.getName())) {
+        try {
+          long remainingMillis = Long.parseLong(cookie.getValue()) - System.currentTimeMillis();
+          return remainingMillis > 0 && remainingMillis <= stickySeconds * 1000;
+        } catch (NumberFormatException ex) {
+          return false;
+        }
+      }
+    }
+    return false;
+  }
+}
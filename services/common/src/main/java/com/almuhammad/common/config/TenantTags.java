@@ -0,0 +1,42 @@
+package com.almuhammad.common.config;
+
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class TenantTags {
+  public static final String NONE = "none";
+  public static final String OTHER = "other";
+
+  private final Set<String> allowed;
+
+  public TenantTags(String... allowed) {
+    this.allowed = Arrays.stream(allowed)
+      .map(TenantTags::normalize)
+      .filter(value -> !value.isEmpty())
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
+  public String of(String tenantId) {
+    if (tenantId == null || tenantId.isBlank()) {
+      return NONE;
+    }
+    String tenant = normalize(tenantId);
+    return allowed.contains(tenant) ? tenant : OTHER;
+  }
+
+  public String current() {
+    if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+      return of(attributes.getRequest().getHeader("X-Tenant-ID"));
+    }
+    return NONE;
+  }
+
+  private static String normalize(String value) {
+    return value.trim().toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,71 @@
+package com.almuhammad.gateway.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class BoundedTtlCache<K, V> {
+  private final Stripe<K, V>[] stripes;
+
+  @SuppressWarnings("unchecked")
+  public BoundedTtlCache(int maxEntries, int stripes) {
+    int limit = Math.max(1, maxEntries);
+    int count = Integer.highestOneBit(Math.max(1, Math.min(stripes, limit)));
+    this.stripes = new Stripe[count];
+    for (int i = 0; i < count; i++) {
+      this.stripes[i] = new Stripe<>((limit + count - 1) / count);
+    }
+  }
+
+  public V get(K key, long nowMillis) {
+    Stripe<K, V> stripe = stripeFor(key);
+    synchronized (stripe) {
+      Entry<V> entry = stripe.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (entry.expiresAtMillis() <= nowMillis) {
+        stripe.remove(key);
+        return null;
+      }
+      return entry.value();
+    }
+  }
+
+  public void put(K key, V value, long expiresAtMillis) {
+    Stripe<K, V> stripe = stripeFor(key);
+    synchronized (stripe) {
+      stripe.put(key, new Entry<>(value, expiresAtMillis));
+    }
+  }
+
+  public int size() {
+    int size = 0;
+    for (Stripe<K, V> stripe : stripes) {
+      synchronized (stripe) {
+        size += stripe.size();
+      }
+    }
+    return size;
+  }
+
+  private Stripe<K, V> stripeFor(K key) {
+    int hash = key.hashCode();
+    return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+  }
+
+  private record Entry<V>(V value, long expiresAtMillis) {}
+
+  private static final class Stripe<K, V> extends LinkedHashMap<K, Entry<V>> {
+    private final int maxEntries;
+
+    Stripe(int maxEntries) {
+      super(16, 0.75f, true);
+      this.maxEntries = maxEntries;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+      return size() > maxEntries;
+    }
+  }
+}
@@ -0,0 +1,213 @@
+package com.almuhammad.gateway.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class PublicResponseCacheGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<PublicResponseCacheGatewayFilterFactory.Config> {
+  private static final List<String> CACHED_HEADERS = List.of(
+    HttpHeaders.CONTENT_TYPE,
+    HttpHeaders.ETAG,
+    HttpHeaders.CACHE_CONTROL,
+    HttpHeaders.LAST_MODIFIED,
+    HttpHeaders.VARY
+  );
+
+  private final MeterRegistry meterRegistry;
+
+  public PublicResponseCacheGatewayFilterFactory(MeterRegistry meterRegistry) {
+    super(Config.class);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public List<String> shortcutFieldOrder() {
+    return List.of("ttl", "maxEntries");
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    return new ResponseCacheFilter(config);
+  }
+
+  private final class ResponseCacheFilter implements GatewayFilter {
+    private final Config config;
+    private final BoundedTtlCache<String, CachedResponse> entries;
+    private final Map<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private ResponseCacheFilter(Config config) {
+      this.config = config;
+      this.entries = new BoundedTtlCache<>(config.getMaxEntries(), 16);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+      ServerHttpRequest request = exchange.getRequest();
+      if (!HttpMethod.GET.equals(request.getMethod())) {
+        return chain.filter(exchange);
+      }
+
+      String routeId = routeId(exchange);
+      String key = cacheKey(request);
+      CachedResponse cached = entries.get(key, System.currentTimeMillis());
+      if (cached != null) {
+        record(routeId, "hit");
+        return write(exchange, cached);
+      }
+
+      Sinks.One<CachedResponse> sink = Sinks.one();
+      Sinks.One<CachedResponse> leader = inFlight.putIfAbsent(key, sink);
+      if (leader != null) {
+        record(routeId, "coalesced");
+        return leader.asMono()
+          .timeout(config.getCoalesceTimeout())
+          .map(Optional::of)
+          .onErrorResume(ex -> Mono.empty())
+          .defaultIfEmpty(Optional.empty())
+          .flatMap(shared -> shared.isPresent() ? write(exchange, shared.get()) : chain.filter(exchange));
+      }
+
+      record(routeId, "miss");
+      ServerHttpRequest upstreamRequest = request.mutate()
+        .headers(headers -> headers.remove(HttpHeaders.IF_NONE_MATCH))
+        .build();
+      ServerHttpResponse capturing = new CapturingResponse(exchange.getResponse(), key, sink);
+      return chain.filter(exchange.mutate().request(upstreamRequest).response(capturing).build())
+        .doFinally(signal -> {
+          inFlight.remove(key, sink);
+          sink.tryEmitEmpty();
+        });
+    }
+
+    private final class CapturingResponse extends ServerHttpResponseDecorator {
+      private final String key;
+      private final Sinks.One<CachedResponse> sink;
+
+      private CapturingResponse(ServerHttpResponse delegate, String key, Sinks.One<CachedResponse> sink) {
+        super(delegate);
+        this.key = key;
+        this.sink = sink;
+      }
+
+      @Override
+      public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        return DataBufferUtils.join(body)
+          .flatMap(joined -> {
+            byte[] bytes = new byte[joined.readableByteCount()];
+            joined.read(bytes);
+            DataBufferUtils.release(joined);
+            CachedResponse captured = capture(getStatusCode(), getHeaders(), bytes);
+            if (captured != null) {
+              entries.put(key, captured, captured.expiresAtMillis());
+              sink.tryEmitValue(captured);
+            }
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+          })
+          .switchIfEmpty(Mono.defer(() -> super.writeWith(Flux.empty())));
+      }
+
+      @Override
+      public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        return writeWith(Flux.from(body).flatMapSequential(part -> part));
+      }
+    }
+
+    private CachedResponse capture(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+      if (status == null || status.value() != HttpStatus.OK.value() || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+        return null;
+      }
+      String cacheControl = headers.getCacheControl();
+      if (cacheControl != null && (cacheControl.contains("no-store") || cacheControl.contains("private"))) {
+        return null;
+      }
+      HttpHeaders kept = new HttpHeaders();
+      for (String name : CACHED_HEADERS) {
+        List<String> values = headers.get(name);
+        if (values != null) {
+          kept.put(name, List.copyOf(values));
+        }
+      }
+      long expiresAt = System.currentTimeMillis() + config.getTtl().toMillis();
+      return new CachedResponse(HttpHeaders.readOnlyHttpHeaders(kept), body, expiresAt);
+    }
+  }
+
+  private Mono<Void> write(ServerWebExchange exchange, CachedResponse cached) {
+    ServerHttpResponse response = exchange.getResponse();
+    cached.headers().forEach((name, values) -> {
+      if (HttpHeaders.VARY.equalsIgnoreCase(name)) {
+        response.getHeaders().addAll(name, values);
+      } else {
+        response.getHeaders().put(name, values);
+      }
+    });
+
+    String etag = cached.headers().getETag();
+    String ifNoneMatch = exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+    if (etag != null && ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(etag))) {
+      response.setStatusCode(HttpStatus.NOT_MODIFIED);
+      return response.setComplete();
+    }
+
+    response.setStatusCode(HttpStatus.OK);
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+  }
+
+  private String cacheKey(ServerHttpRequest request) {
+    String query = request.getURI().getRawQuery();
+    String tenant = request.getHeaders().getFirst("X-Tenant-ID");
+    return request.getURI().getRawPath()
+      + (query == null ? "" : "?" + query)
+      + "|" + (tenant == null ? "" : tenant);
+  }
+
+  private String routeId(ServerWebExchange exchange) {
+    Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+    return route == null ? "unknown" : route.getId();
+  }
+
+  private void record(String routeId, String result) {
+    meterRegistry.counter("gateway.response.cache", "route", routeId, "result", result).increment();
+  }
+
+  private record CachedResponse(HttpHeaders headers, byte[] body, long expiresAtMillis) {}
+
+  public static class Config {
+    private Duration ttl = Duration.ofSeconds(30);
+    private int maxEntries = 1000;
+    private Duration coalesceTimeout = Duration.ofSeconds(5);
+
+    public Duration getTtl() { return ttl; }
+    public void setTtl(Duration ttl) { this.ttl = ttl; }
+    public int getMaxEntries() { return maxEntries; }
+    public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+    public Duration getCoalesceTimeout() { return coalesceTimeout; }
+    public void setCoalesceTimeout(Duration coalesceTimeout) { this.coalesceTimeout = coalesceTimeout; }
+  }
+}
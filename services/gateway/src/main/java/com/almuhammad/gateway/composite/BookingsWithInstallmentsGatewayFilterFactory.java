@@ -0,0 +1,148 @@
+package com.almuhammad.gateway.composite;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class BookingsWithInstallmentsGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<BookingsWithInstallmentsGatewayFilterFactory.Config> {
+  private static final List<String> FORWARDED_HEADERS = List.of("X-User", "X-Role", "X-Tenant-ID");
+  private static final ParameterizedTypeReference<List<Map<String, Object>>> BOOKINGS =
+    new ParameterizedTypeReference<>() {};
+  private static final ParameterizedTypeReference<Map<String, Object>> INSTALLMENTS_BY_BOOKING =
+    new ParameterizedTypeReference<>() {};
+
+  private final WebClient webClient;
+  private final ObjectMapper objectMapper;
+
+  public BookingsWithInstallmentsGatewayFilterFactory(WebClient.Builder webClientBuilder, ObjectMapper objectMapper) {
+    super(Config.class);
+    this.webClient = webClientBuilder.build();
+    this.objectMapper = objectMapper;
+  }
+
+  private record Composite(HttpStatusCode status, Object body) {}
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    return (exchange, chain) -> {
+      ServerWebExchangeUtils.setAlreadyRouted(exchange);
+      HttpHeaders incoming = exchange.getRequest().getHeaders();
+
+      return webClient.get()
+        .uri(config.getBookingUri() + "/booking/user-bookings")
+        .headers(headers -> forward(incoming, headers))
+        .retrieve()
+        .bodyToMono(BOOKINGS)
+        .timeout(config.getBookingTimeout())
+        .flatMap(bookings -> withInstallments(config, incoming, bookings))
+        .onErrorResume(ex -> Mono.just(bookingFailure(ex)))
+        .flatMap(composite -> writeJson(exchange, composite));
+    };
+  }
+
+  private Mono<Composite> withInstallments(Config config, HttpHeaders incoming, List<Map<String, Object>> bookings) {
+    List<String> bookingIds = new ArrayList<>();
+    for (Map<String, Object> booking : bookings) {
+      bookingIds.add(String.valueOf(booking.get("id")));
+    }
+    if (bookingIds.isEmpty()) {
+      return Mono.just(composite(bookings, Map.of(), List.of()));
+    }
+
+    List<List<String>> batches = new ArrayList<>();
+    for (int i = 0; i < bookingIds.size(); i += config.getBatchSize()) {
+      batches.add(bookingIds.subList(i, Math.min(i + config.getBatchSize(), bookingIds.size())));
+    }
+
+    return Flux.fromIterable(batches)
+      .flatMap(batch -> webClient.get()
+        .uri(config.getPaymentUri() + "/payment/installments?bookingIds={ids}", String.join(",", batch))
+        .headers(headers -> forward(incoming, headers))
+        .retrieve()
+        .bodyToMono(INSTALLMENTS_BY_BOOKING))
+      .collect(LinkedHashMap<String, Object>::new, Map::putAll)
+      .timeout(config.getPaymentTimeout())
+      .map(installments -> composite(bookings, installments, List.of()))
+      .onErrorResume(ex -> Mono.just(composite(bookings, null, List.of("payment"))));
+  }
+
+  private Composite composite(List<Map<String, Object>> bookings, Map<String, Object> installments, List<String> degraded) {
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("bookings", bookings);
+    body.put("installments", installments);
+    body.put("degraded", degraded);
+    return new Composite(HttpStatus.OK, body);
+  }
+
+  private Composite bookingFailure(Throwable ex) {
+    if (ex instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()) {
+      return new Composite(response.getStatusCode(), Map.of("error", "Unable to load bookings"));
+    }
+    HttpStatus status = ex instanceof TimeoutException ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.BAD_GATEWAY;
+    return new Composite(status, Map.of("error", "Bookings are temporarily unavailable", "degraded", List.of("booking")));
+  }
+
+  private void forward(HttpHeaders incoming, HttpHeaders outgoing) {
+    for (String name : FORWARDED_HEADERS) {
+      String value = incoming.getFirst(name);
+      if (value != null) {
+        outgoing.set(name, value);
+      }
+    }
+  }
+
+  private Mono<Void> writeJson(ServerWebExchange exchange, Composite composite) {
+    byte[] bytes;
+    try {
+      bytes = objectMapper.writeValueAsBytes(composite.body());
+    } catch (JsonProcessingException ex) {
+      return Mono.error(ex);
+    }
+    ServerHttpResponse response = exchange.getResponse();
+    response.setStatusCode(composite.status());
+    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+  }
+
+  public static class Config {
+    private String bookingUri = "http://localhost:8083";
+    private String paymentUri = "http://localhost:8084";
+    private Duration bookingTimeout = Duration.ofSeconds(3);
+    private Duration paymentTimeout = Duration.ofSeconds(2);
+    private int batchSize = 100;
+
+    public String getBookingUri() { return bookingUri; }
+    public void setBookingUri(String bookingUri) { this.bookingUri = bookingUri; }
+    public String getPaymentUri() { return paymentUri; }
+    public void setPaymentUri(String paymentUri) { this.paymentUri = paymentUri; }
+    public Duration getBookingTimeout() { return bookingTimeout; }
+    public void setBookingTimeout(Duration bookingTimeout) { this.bookingTimeout = bookingTimeout; }
+    public Duration getPaymentTimeout() { return paymentTimeout; }
+    public void setPaymentTimeout(Duration paymentTimeout) { this.paymentTimeout = paymentTimeout; }
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+  }
+}
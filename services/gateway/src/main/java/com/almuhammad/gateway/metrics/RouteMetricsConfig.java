@@ -0,0 +1,17 @@
+package com.almuhammad.gateway.metrics;
+
+import com.almuhammad.gateway.security.TenantNormalizer;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.cloud.gateway.support.tagsprovider.GatewayTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RouteMetricsConfig {
+  @Bean
+  public GatewayTagsProvider tenantGatewayTagsProvider(TenantTags tenantTags, TenantNormalizer tenantNormalizer) {
+    return exchange -> Tags.of("tenant", tenantTags.of(
+      tenantNormalizer.normalize(exchange.getRequest().getHeaders().getFirst("X-Tenant-ID"))
+    ));
+  }
+}
@@ -0,0 +1,36 @@
+package com.almuhammad.gateway.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class TenantTags {
+  public static final String NONE = "none";
+  public static final String OTHER = "other";
+
+  private final Set<String> allowed;
+
+  public TenantTags(@Value("${metrics.tenant-tag.allowed:public}") String... allowed) {
+    this.allowed = Arrays.stream(allowed)
+      .map(TenantTags::normalize)
+      .filter(value -> !value.isEmpty())
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
+  public String of(String tenantId) {
+    if (tenantId == null || tenantId.isBlank()) {
+      return NONE;
+    }
+    String tenant = normalize(tenantId);
+    return allowed.contains(tenant) ? tenant : OTHER;
+  }
+
+  private static String normalize(String value) {
+    return value.trim().toLowerCase(Locale.ROOT);
+  }
+}
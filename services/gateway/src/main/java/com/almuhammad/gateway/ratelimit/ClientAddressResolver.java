@@ -0,0 +1,117 @@
+package com.almuhammad.gateway.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Component
+public class ClientAddressResolver {
+  private static final Pattern IPV4 = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+
+  private final List<Cidr> trustedProxies;
+
+  public ClientAddressResolver(@Value("${gateway.rate-limit.trusted-proxies:}") String[] trustedProxies) {
+    List<Cidr> parsed = new ArrayList<>();
+    for (String entry : trustedProxies) {
+      String value = entry.trim();
+      if (!value.isEmpty()) {
+        parsed.add(Cidr.parse(value));
+      }
+    }
+    this.trustedProxies = List.copyOf(parsed);
+  }
+
+  public String resolve(ServerHttpRequest request) {
+    InetSocketAddress remote = request.getRemoteAddress();
+    InetAddress address = remote == null ? null : remote.getAddress();
+    if (address == null) {
+      return "unknown";
+    }
+    if (!isTrusted(address)) {
+      return address.getHostAddress();
+    }
+    List<String> forwarded = request.getHeaders().get("X-Forwarded-For");
+    if (forwarded == null) {
+      return address.getHostAddress();
+    }
+    List<String> hops = new ArrayList<>();
+    for (String header : forwarded) {
+      for (String hop : header.split(",")) {
+        hops.add(hop.trim());
+      }
+    }
+    for (int i = hops.size() - 1; i >= 0; i--) {
+      InetAddress hop = parseLiteral(hops.get(i));
+      if (hop == null) {
+        break;
+      }
+      address = hop;
+      if (!isTrusted(hop)) {
+        break;
+      }
+    }
+    return address.getHostAddress();
+  }
+
+  private boolean isTrusted(InetAddress address) {
+    for (Cidr cidr : trustedProxies) {
+      if (cidr.contains(address)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static InetAddress parseLiteral(String value) {
+    if (!IPV4.matcher(value).matches() && value.indexOf(':') < 0) {
+      return null;
+    }
+    try {
+      return InetAddress.getByName(value);
+    } catch (UnknownHostException ex) {
+      return null;
+    }
+  }
+
+  private record Cidr(byte[] network, int prefixLength) {
+    static Cidr parse(String value) {
+      int slash = value.indexOf('/');
+      InetAddress address = parseLiteral(slash < 0 ? value : value.substring(0, slash));
+      if (address == null) {
+        throw new IllegalArgumentException("Invalid trusted proxy '" + value + "', expected an IP address or CIDR range");
+      }
+      byte[] network = address.getAddress();
+      int prefixLength = slash < 0 ? network.length * 8 : Integer.parseInt(value.substring(slash + 1).trim());
+      if (prefixLength < 0 || prefixLength > network.length * 8) {
+        throw new IllegalArgumentException("Invalid trusted proxy '" + value + "', prefix length out of range");
+      }
+      return new Cidr(network, prefixLength);
+    }
+
+    boolean contains(InetAddress address) {
+      byte[] bytes = address.getAddress();
+      if (bytes.length != network.length) {
+        return false;
+      }
+      int fullBytes = prefixLength / 8;
+      for (int i = 0; i < fullBytes; i++) {
+        if (bytes[i] != network[i]) {
+          return false;
+        }
+      }
+      int remainingBits = prefixLength % 8;
+      if (remainingBits == 0) {
+        return true;
+      }
+      int mask = 0xFF << (8 - remainingBits);
+      return (bytes[fullBytes] & mask) == (network[fullBytes] & mask);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.almuhammad.gateway.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "gateway.rate-limit.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitBackend implements RateLimitBackend {
+  private final Stripe[] stripes;
+
+  public InMemoryRateLimitBackend(
+      @Value("${gateway.rate-limit.stripes:64}") int stripes,
+      @Value("${gateway.rate-limit.max-keys-per-stripe:4096}") int maxKeysPerStripe
+  ) {
+    int count = Integer.highestOneBit(Math.max(1, stripes - 1) << 1);
+    this.stripes = new Stripe[count];
+    for (int i = 0; i < count; i++) {
+      this.stripes[i] = new Stripe(Math.max(1, maxKeysPerStripe));
+    }
+  }
+
+  @Override
+  public Mono<Decision> tryConsume(String key, Limit limit) {
+    return Mono.just(consume(key, limit, System.nanoTime()));
+  }
+
+  private Decision consume(String key, Limit limit, long now) {
+    int hash = key.hashCode();
+    Stripe stripe = stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    synchronized (stripe) {
+      Bucket bucket = stripe.get(key);
+      if (bucket == null) {
+        bucket = new Bucket(limit.capacity(), now);
+        stripe.put(key, bucket);
+      }
+      double refillPerNano = limit.refillPerSecond() / 1_000_000_000d;
+      bucket.tokens = Math.min(limit.capacity(), bucket.tokens + (now - bucket.refilledAtNanos) * refillPerNano);
+      bucket.refilledAtNanos = now;
+      if (bucket.tokens >= 1) {
+        bucket.tokens -= 1;
+        return Decision.ALLOWED;
+      }
+      return new Decision(false, (long) Math.ceil((1 - bucket.tokens) / refillPerNano / 1_000_000d));
+    }
+  }
+
+  private static final class Bucket {
+    double tokens;
+    long refilledAtNanos;
+
+    Bucket(double tokens, long refilledAtNanos) {
+      this.tokens = tokens;
+      this.refilledAtNanos = refilledAtNanos;
+    }
+  }
+
+  private static final class Stripe extends LinkedHashMap<String, Bucket> {
+    private final int maxKeys;
+
+    Stripe(int maxKeys) {
+      super(16, 0.75f, true);
+      this.maxKeys = maxKeys;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+      return size() > maxKeys;
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.almuhammad.gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+public interface RateLimitBackend {
+  Mono<Decision> tryConsume(String key, Limit limit);
+
+  record Limit(int capacity, double refillPerSecond) {}
+
+  record Decision(boolean allowed, long retryAfterMillis) {
+    static final Decision ALLOWED = new Decision(true, 0);
+  }
+}
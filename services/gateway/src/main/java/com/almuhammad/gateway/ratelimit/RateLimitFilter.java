@@ -0,0 +1,122 @@
+package com.almuhammad.gateway.ratelimit;
+
+import com.almuhammad.gateway.security.JwtVerifier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+  private final RateLimitBackend backend;
+  private final JwtVerifier jwtVerifier;
+  private final ClientAddressResolver clientAddresses;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final RateLimitBackend.Limit defaultLimit;
+  private final Map<String, RateLimitBackend.Limit> routeLimits;
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  public RateLimitFilter(
+      RateLimitBackend backend,
+      JwtVerifier jwtVerifier,
+      ClientAddressResolver clientAddresses,
+      MeterRegistry meterRegistry,
+      @Value("${gateway.rate-limit.enabled:true}") boolean enabled,
+      @Value("${gateway.rate-limit.default-capacity:100}") int defaultCapacity,
+      @Value("${gateway.rate-limit.default-refill-per-second:50}") double defaultRefillPerSecond,
+      @Value("${gateway.rate-limit.routes:}") String[] routeLimits
+  ) {
+    this.backend = backend;
+    this.jwtVerifier = jwtVerifier;
+    this.clientAddresses = clientAddresses;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.defaultLimit = new RateLimitBackend.Limit(defaultCapacity, defaultRefillPerSecond);
+    this.routeLimits = parseRouteLimits(routeLimits);
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    if (!enabled || HttpMethod.OPTIONS.equals(exchange.getRequest().getMethod())) {
+      return chain.filter(exchange);
+    }
+
+    Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+    String routeId = route == null ? "unmatched" : route.getId();
+    JwtVerifier.VerifiedToken verified = verifiedToken(exchange);
+    String key = verified != null
+      ? routeId + "|user:" + verified.tenant() + "|" + verified.subject()
+      : routeId + "|ip:" + clientAddresses.resolve(exchange.getRequest());
+
+    return backend.tryConsume(key, routeLimits.getOrDefault(routeId, defaultLimit))
+      .flatMap(decision -> {
+        counter(routeId, verified != null, decision.allowed()).increment();
+        if (decision.allowed()) {
+          return chain.filter(exchange);
+        }
+        long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1000);
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return exchange.getResponse().setComplete();
+      });
+  }
+
+  @Override
+  public int getOrder() {
+    return -2;
+  }
+
+  private JwtVerifier.VerifiedToken verifiedToken(ServerWebExchange exchange) {
+    String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+    if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+      return null;
+    }
+    return jwtVerifier.cached(authHeader.substring(7));
+  }
+
+  private Counter counter(String routeId, boolean authenticated, boolean allowed) {
+    String principal = authenticated ? "user" : "anonymous";
+    String result = allowed ? "allowed" : "rejected";
+    return counters.computeIfAbsent(routeId + "|" + principal + "|" + result, ignored ->
+      Counter.builder("gateway.rate.limit")
+        .tag("route", routeId)
+        .tag("principal", principal)
+        .tag("result", result)
+        .register(meterRegistry));
+  }
+
+  private Map<String, RateLimitBackend.Limit> parseRouteLimits(String[] entries) {
+    Map<String, RateLimitBackend.Limit> limits = new HashMap<>();
+    for (String entry : entries) {
+      String value = entry.trim();
+      if (value.isEmpty()) {
+        continue;
+      }
+      int equals = value.indexOf('=');
+      int slash = value.indexOf('/', equals);
+      if (equals <= 0 || slash < 0) {
+        throw new IllegalArgumentException("Invalid rate limit '" + value + "', expected routeId=capacity/refillPerSecond");
+      }
+      limits.put(value.substring(0, equals).trim(), new RateLimitBackend.Limit(
+        Integer.parseInt(value.substring(equals + 1, slash).trim()),
+        Double.parseDouble(value.substring(slash + 1).trim())
+      ));
+    }
+    return Map.copyOf(limits);
+  }
+}
@@ -0,0 +1,69 @@
+package com.almuhammad.gateway.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "gateway.rate-limit.backend", havingValue = "redis")
+public class RedisRateLimitBackend implements RateLimitBackend {
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> TOKEN_BUCKET = RedisScript.of("""
+    local capacity = tonumber(ARGV[1])
+    local per_ms = tonumber(ARGV[2])
+    local time = redis.call('TIME')
+    local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+    local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+    local tokens = tonumber(state[1]) or capacity
+    local ts = tonumber(state[2]) or now
+    tokens = math.min(capacity, tokens + math.max(0, now - ts) * per_ms)
+    local allowed = 0
+    local wait = 0
+    if tokens >= 1 then
+      tokens = tokens - 1
+      allowed = 1
+    else
+      wait = math.ceil((1 - tokens) / per_ms)
+    end
+    redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+    redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / per_ms) + 1000)
+    return {allowed, wait}
+    """, List.class);
+
+  private final ReactiveStringRedisTemplate redis;
+  private final Counter failures;
+
+  public RedisRateLimitBackend(ReactiveStringRedisTemplate redis, MeterRegistry meterRegistry) {
+    this.redis = redis;
+    this.failures = Counter.builder("gateway.rate.limit.backend.errors")
+      .tag("backend", "redis")
+      .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Decision> tryConsume(String key, Limit limit) {
+    List<String> args = List.of(
+      String.valueOf(limit.capacity()),
+      String.valueOf(limit.refillPerSecond() / 1000d)
+    );
+    return redis.execute(TOKEN_BUCKET, List.of("rate-limit:" + key), args)
+      .next()
+      .map(result -> {
+        long allowed = ((Number) result.get(0)).longValue();
+        long wait = ((Number) result.get(1)).longValue();
+        return allowed == 1 ? Decision.ALLOWED : new Decision(false, wait);
+      })
+      .timeout(Duration.ofMillis(200))
+      .onErrorResume(ex -> {
+        failures.increment();
+        return Mono.just(Decision.ALLOWED);
+      });
+  }
+}
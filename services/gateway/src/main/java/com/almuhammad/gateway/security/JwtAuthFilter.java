@@ -1,10 +1,8 @@
 package com.almuhammad.gateway.security;
 
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
@@ -14,28 +12,32 @@ import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.Map;
-
 @Component
 public class JwtAuthFilter implements GlobalFilter, Ordered {
-  private final String secret;
-
-  public JwtAuthFilter(@Value("${security.jwt.secret}") String secret) {
-    this.secret = secret;
+  private final JwtVerifier jwtVerifier;
+  private final PublicRouteMatcher publicRoutes;
+  private final TenantNormalizer tenantNormalizer;
+
+  public JwtAuthFilter(JwtVerifier jwtVerifier, PublicRouteMatcher publicRoutes, TenantNormalizer tenantNormalizer) {
+    this.jwtVerifier = jwtVerifier;
+    this.publicRoutes = publicRoutes;
+    this.tenantNormalizer = tenantNormalizer;
   }
 
   @Override
   public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-    String path = exchange.getRequest().getURI().getPath();
-    String requestTenant = normalizeTenant(exchange.getRequest().getHeaders().getFirst("X-Tenant-ID"));
-
-    if (exchange.getRequest().getMethod().matches("OPTIONS")) {
+    if (HttpMethod.OPTIONS.equals(exchange.getRequest().getMethod())) {
       return chain.filter(exchange);
     }
 
-    if (isPublic(path)) {
+    String path = exchange.getRequest().getURI().getPath();
+    String tenantHeader = exchange.getRequest().getHeaders().getFirst("X-Tenant-ID");
+    String requestTenant = tenantNormalizer.normalize(tenantHeader);
+
+    if (publicRoutes.isPublic(path)) {
+      if (requestTenant.equals(tenantHeader)) {
+        return chain.filter(exchange);
+      }
       ServerHttpRequest publicMutated = exchange.getRequest().mutate()
         .header("X-Tenant-ID", requestTenant)
         .build();
@@ -50,15 +52,11 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
 
     String token = authHeader.substring(7);
     try {
-      Map<String, Object> claims = Jwts.parser()
-        .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+      JwtVerifier.VerifiedToken verified = jwtVerifier.verify(token);
 
-      String role = String.valueOf(claims.get("role"));
-      String user = String.valueOf(claims.get("sub"));
-      String tokenTenant = normalizeTenant(String.valueOf(claims.getOrDefault("tenant", requestTenant)));
+      String role = verified.role();
+      String user = verified.subject();
+      String tokenTenant = tenantNormalizer.normalize(verified.tenant() == null ? requestTenant : verified.tenant());
 
       if (!requestTenant.equals(tokenTenant)) {
         exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
@@ -83,29 +81,8 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
     }
   }
 
-  private boolean isPublic(String path) {
-    List<String> publicPrefixes = List.of("/api/auth", "/actuator");
-    for (String prefix : publicPrefixes) {
-      if (path.startsWith(prefix)) {
-        return true;
-      }
-    }
-    return path.equals("/api/catalog/packages");
-  }
-
   @Override
   public int getOrder() {
     return -1;
   }
-
-  private String normalizeTenant(String tenantValue) {
-    if (!StringUtils.hasText(tenantValue)) {
-      return "public";
-    }
-    String normalized = tenantValue.trim().toLowerCase();
-    if (!normalized.matches("^[a-z0-9][a-z0-9_-]{1,39}$")) {
-      return "public";
-    }
-    return normalized;
-  }
 }
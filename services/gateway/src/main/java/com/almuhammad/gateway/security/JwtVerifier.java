@@ -0,0 +1,129 @@
+package com.almuhammad.gateway.security;
+
+import com.almuhammad.gateway.cache.BoundedTtlCache;
+import com.almuhammad.gateway.metrics.TenantTags;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+
+@Component
+public class JwtVerifier {
+  private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  });
+
+  private final JwtParser parser;
+  private final int maxEntries;
+  private final BoundedTtlCache<TokenHash, VerifiedToken> cache;
+  private final Counter hits;
+  private final Counter misses;
+  private final TenantTags tenantTags;
+  private final TenantNormalizer tenantNormalizer;
+  private final MeterRegistry meterRegistry;
+
+  public JwtVerifier(
+      @Value("${security.jwt.secret}") String secret,
+      @Value("${security.jwt.cache.max-entries:10000}") int maxEntries,
+      TenantTags tenantTags,
+      TenantNormalizer tenantNormalizer,
+      MeterRegistry meterRegistry
+  ) {
+    this.parser = Jwts.parser()
+      .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+      .build();
+    this.maxEntries = Math.max(0, maxEntries);
+    this.cache = new BoundedTtlCache<>(this.maxEntries, 16);
+    this.tenantTags = tenantTags;
+    this.tenantNormalizer = tenantNormalizer;
+    this.meterRegistry = meterRegistry;
+    this.hits = Counter.builder("gateway.jwt.cache")
+      .tag("result", "hit")
+      .register(meterRegistry);
+    this.misses = Counter.builder("gateway.jwt.cache")
+      .tag("result", "miss")
+      .register(meterRegistry);
+    Gauge.builder("gateway.jwt.cache.size", cache, BoundedTtlCache::size).register(meterRegistry);
+  }
+
+  public VerifiedToken verify(String token) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    VerifiedToken verified = null;
+    String outcome = "invalid";
+    try {
+      if (maxEntries == 0) {
+        misses.increment();
+        verified = parse(token);
+        outcome = "verified";
+        return verified;
+      }
+
+      TokenHash key = TokenHash.of(token);
+      VerifiedToken cached = cache.get(key, System.currentTimeMillis());
+      if (cached != null) {
+        hits.increment();
+        verified = cached;
+        outcome = "cached";
+        return cached;
+      }
+
+      misses.increment();
+      verified = parse(token);
+      if (verified.expiresAtMillis() != Long.MAX_VALUE) {
+        cache.put(key, verified, verified.expiresAtMillis());
+      }
+      outcome = "verified";
+      return verified;
+    } finally {
+      sample.stop(Timer.builder("gateway.jwt.verify")
+        .tag("tenant", verified == null ? TenantTags.NONE : tenantTags.of(tenantNormalizer.normalize(verified.tenant())))
+        .tag("outcome", outcome)
+        .register(meterRegistry));
+    }
+  }
+
+  public VerifiedToken cached(String token) {
+    if (maxEntries == 0) {
+      return null;
+    }
+    return cache.get(TokenHash.of(token), System.currentTimeMillis());
+  }
+
+  private VerifiedToken parse(String token) {
+    Claims claims = parser.parseSignedClaims(token).getPayload();
+    Date expiration = claims.getExpiration();
+    Object tenant = claims.get("tenant");
+    return new VerifiedToken(
+      String.valueOf(claims.get("sub")),
+      String.valueOf(claims.get("role")),
+      tenant == null ? null : String.valueOf(tenant),
+      expiration == null ? Long.MAX_VALUE : expiration.getTime()
+    );
+  }
+
+  public record VerifiedToken(String subject, String role, String tenant, long expiresAtMillis) {}
+
+  private record TokenHash(long a, long b, long c, long d) {
+    static TokenHash of(String token) {
+      MessageDigest digest = SHA_256.get();
+      ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+      return new TokenHash(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.almuhammad.gateway.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class PublicRouteMatcher {
+  private final String[] prefixes;
+  private final Set<String> exactPaths;
+
+  public PublicRouteMatcher(
+      @Value("${security.public-routes.prefixes:/api/auth}") String[] prefixes,
+      @Value("${security.public-routes.exact:/api/catalog/packages,/api/payment/razorpay/webhook}") String[] exactPaths
+  ) {
+    this.prefixes = Arrays.stream(prefixes)
+      .map(String::trim)
+      .filter(value -> !value.isEmpty())
+      .toArray(String[]::new);
+    this.exactPaths = Arrays.stream(exactPaths)
+      .map(String::trim)
+      .filter(value -> !value.isEmpty())
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
+  public boolean isPublic(String path) {
+    for (String prefix : prefixes) {
+      if (path.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return exactPaths.contains(path);
+  }
+}
@@ -0,0 +1,66 @@
+package com.almuhammad.gateway.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class TenantNormalizer {
+  public static final String DEFAULT_TENANT = "public";
+
+  private static final int MIN_LENGTH = 2;
+  private static final int MAX_LENGTH = 40;
+
+  private final Map<String, String> interned = new ConcurrentHashMap<>();
+  private final int maxInterned;
+
+  public TenantNormalizer(@Value("${security.tenant.intern-cache-size:1024}") int maxInterned) {
+    this.maxInterned = maxInterned;
+  }
+
+  public String normalize(String tenantValue) {
+    if (tenantValue == null || tenantValue.isEmpty()) {
+      return DEFAULT_TENANT;
+    }
+    if (isCanonical(tenantValue)) {
+      return tenantValue;
+    }
+    String cached = interned.get(tenantValue);
+    if (cached != null) {
+      return cached;
+    }
+
+    String normalized = tenantValue.trim().toLowerCase();
+    if (!isCanonical(normalized)) {
+      return DEFAULT_TENANT;
+    }
+    if (interned.size() < maxInterned) {
+      interned.putIfAbsent(tenantValue, normalized);
+    }
+    return normalized;
+  }
+
+  static boolean isCanonical(String value) {
+    int length = value.length();
+    if (length < MIN_LENGTH || length > MAX_LENGTH) {
+      return false;
+    }
+    char first = value.charAt(0);
+    if (!isLowerAlphanumeric(first)) {
+      return false;
+    }
+    for (int i = 1; i < length; i++) {
+      char c = value.charAt(i);
+      if (!isLowerAlphanumeric(c) && c != '_' && c != '-') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isLowerAlphanumeric(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+  }
+}
@@ -0,0 +1,73 @@
+package com.almuhammad.gateway.security;
+
+import com.almuhammad.gateway.metrics.TenantTags;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifierBenchmark {
+  private static final String SECRET = "change-me-please-change-me-please-123456";
+
+  private JwtVerifier cachedVerifier;
+  private JwtVerifier uncachedVerifier;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    TenantNormalizer tenantNormalizer = new TenantNormalizer(1024);
+    cachedVerifier = new JwtVerifier(SECRET, 10000, new TenantTags("public"), tenantNormalizer, new SimpleMeterRegistry());
+    uncachedVerifier = new JwtVerifier(SECRET, 0, new TenantTags("public"), tenantNormalizer, new SimpleMeterRegistry());
+    Instant now = Instant.now();
+    token = Jwts.builder()
+      .subject("pilgrim@example.com")
+      .issuer("almuhammad")
+      .issuedAt(Date.from(now))
+      .expiration(Date.from(now.plusSeconds(3600)))
+      .claims(Map.of("role", "USER", "tenant", "public"))
+      .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+      .compact();
+    cachedVerifier.verify(token);
+  }
+
+  @Benchmark
+  public JwtVerifier.VerifiedToken cachedVerify() {
+    return cachedVerifier.verify(token);
+  }
+
+  @Benchmark
+  public JwtVerifier.VerifiedToken uncachedVerify() {
+    return uncachedVerifier.verify(token);
+  }
+
+  @Benchmark
+  public Claims parserPerRequest() {
+    return Jwts.parser()
+      .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+      .build()
+      .parseSignedClaims(token)
+      .getPayload();
+  }
+}
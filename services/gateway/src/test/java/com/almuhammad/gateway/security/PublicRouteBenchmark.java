@@ -0,0 +1,98 @@
+package com.almuhammad.gateway.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicRouteBenchmark {
+  private static final String TENANT_PATTERN = "^[a-z0-9][a-z0-9_-]{1,39}$";
+
+  private PublicRouteMatcher matcher;
+  private List<String> listPrefixes;
+  private List<String> listExactPaths;
+  private String rawTenant = " Acme-Travels ";
+  private TenantNormalizer normalizer;
+
+  @Setup
+  public void setUp() {
+    matcher = new PublicRouteMatcher(
+      new String[] {"/api/auth"},
+      new String[] {"/api/catalog/packages", "/api/payment/razorpay/webhook"}
+    );
+    listPrefixes = List.of("/api/auth");
+    listExactPaths = List.of("/api/catalog/packages", "/api/payment/razorpay/webhook");
+    normalizer = new TenantNormalizer(1024);
+    normalizer.normalize(" Acme-Travels ");
+  }
+
+  @Benchmark
+  public boolean publicPrefix() {
+    return matcher.isPublic("/api/auth/login");
+  }
+
+  @Benchmark
+  public boolean publicExact() {
+    return matcher.isPublic("/api/catalog/packages");
+  }
+
+  @Benchmark
+  public boolean protectedPath() {
+    return matcher.isPublic("/api/booking/my");
+  }
+
+  @Benchmark
+  public boolean listPublicPrefix() {
+    return listIsPublic("/api/auth/login");
+  }
+
+  @Benchmark
+  public boolean listPublicExact() {
+    return listIsPublic("/api/catalog/packages");
+  }
+
+  @Benchmark
+  public boolean listProtectedPath() {
+    return listIsPublic("/api/booking/my");
+  }
+
+  @Benchmark
+  public String canonicalTenant() {
+    return normalizer.normalize("acme-travels");
+  }
+
+  @Benchmark
+  public String internedTenant() {
+    return normalizer.normalize(" Acme-Travels ");
+  }
+
+  @Benchmark
+  public String missingTenant() {
+    return normalizer.normalize(null);
+  }
+
+  @Benchmark
+  public String regexTenant() {
+    String normalized = rawTenant.trim().toLowerCase();
+    return normalized.matches(TENANT_PATTERN) ? normalized : "public";
+  }
+
+  private boolean listIsPublic(String path) {
+    return listPrefixes.stream().anyMatch(path::startsWith) || listExactPaths.stream().anyMatch(path::equals);
+  }
+}
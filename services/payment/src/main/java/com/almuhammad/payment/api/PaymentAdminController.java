@@ -3,10 +3,17 @@ package com.almuhammad.payment.api;
 import com.almuhammad.payment.domain.Payment;
 import com.almuhammad.payment.domain.PaymentDeletionAudit;
 import com.almuhammad.payment.repo.PaymentDeletionAuditRepository;
+import com.almuhammad.payment.repo.PaymentFilter;
 import com.almuhammad.payment.repo.PaymentRepository;
+import com.almuhammad.payment.repo.PaymentSummary;
+import com.almuhammad.payment.service.PaymentExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
@@ -17,10 +24,22 @@ import java.util.Map;
 public class PaymentAdminController {
   private final PaymentRepository repo;
   private final PaymentDeletionAuditRepository auditRepo;
+  private final PaymentExporter exporter;
+  private final int defaultPageSize;
+  private final int maxPageSize;
 
-  public PaymentAdminController(PaymentRepository repo, PaymentDeletionAuditRepository auditRepo) {
+  public PaymentAdminController(
+      PaymentRepository repo,
+      PaymentDeletionAuditRepository auditRepo,
+      PaymentExporter exporter,
+      @Value("${payment.admin.page-size:100}") int defaultPageSize,
+      @Value("${payment.admin.max-page-size:500}") int maxPageSize
+  ) {
     this.repo = repo;
     this.auditRepo = auditRepo;
+    this.exporter = exporter;
+    this.defaultPageSize = defaultPageSize;
+    this.maxPageSize = maxPageSize;
   }
 
   public record UpdatePaymentRequest(
@@ -32,10 +51,67 @@ public class PaymentAdminController {
   public record DeleteRequest(String reason) {}
 
   @GetMapping("/payments")
-  public ResponseEntity<List<Payment>> list(
-      @RequestHeader(value = "X-Tenant-ID", required = false) String tenant
+  public ResponseEntity<?> list(
+      @RequestHeader(value = "X-Tenant-ID", required = false) String tenant,
+      @RequestParam(value = "status", required = false) String status,
+      @RequestParam(value = "dueFrom", required = false) String dueFrom,
+      @RequestParam(value = "dueTo", required = false) String dueTo,
+      @RequestParam(value = "bookingId", required = false) String bookingId,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "limit", required = false) Integer limit
   ) {
-    return ResponseEntity.ok(repo.findByTenantId(normalizeTenant(tenant)));
+    String tenantId = normalizeTenant(tenant);
+    PaymentFilter filter = parseFilter(status, dueFrom, dueTo, bookingId);
+    if (filter == null) {
+      return ResponseEntity.badRequest().body(Map.of("error", "Invalid dueFrom/dueTo format, expected YYYY-MM-DD"));
+    }
+    Long afterId = null;
+    if (cursor != null && !cursor.isBlank()) {
+      afterId = parseLong(cursor);
+      if (afterId == null) {
+        return ResponseEntity.badRequest().body(Map.of("error", "Invalid cursor"));
+      }
+    }
+
+    int pageSize = Math.max(1, Math.min(limit == null ? defaultPageSize : limit, maxPageSize));
+    List<PaymentSummary> rows = repo.findAdminPage(tenantId, filter, afterId, pageSize + 1);
+    if (rows.size() <= pageSize) {
+      return ResponseEntity.ok(rows);
+    }
+    List<PaymentSummary> page = rows.subList(0, pageSize);
+    return ResponseEntity.ok()
+      .header("X-Next-Cursor", String.valueOf(page.get(pageSize - 1).id()))
+      .body(page);
+  }
+
+  @GetMapping("/payments/export")
+  public ResponseEntity<StreamingResponseBody> export(
+      @RequestHeader(value = "X-Tenant-ID", required = false) String tenant,
+      @RequestParam(value = "format", required = false, defaultValue = "ndjson") String format,
+      @RequestParam(value = "status", required = false) String status,
+      @RequestParam(value = "dueFrom", required = false) String dueFrom,
+      @RequestParam(value = "dueTo", required = false) String dueTo,
+      @RequestParam(value = "bookingId", required = false) String bookingId
+  ) {
+    String tenantId = normalizeTenant(tenant);
+    PaymentFilter filter = parseFilter(status, dueFrom, dueTo, bookingId);
+    if (filter == null) {
+      return errorBody("Invalid dueFrom/dueTo format, expected YYYY-MM-DD");
+    }
+
+    if ("csv".equalsIgnoreCase(format)) {
+      return ResponseEntity.ok()
+        .contentType(new MediaType("text", "csv"))
+        .header("Content-Disposition", "attachment; filename=\"payments-" + tenantId + ".csv\"")
+        .body(out -> exporter.writeCsv(tenantId, filter, out));
+    }
+    if (!"ndjson".equalsIgnoreCase(format)) {
+      return errorBody("format must be ndjson or csv");
+    }
+    return ResponseEntity.ok()
+      .contentType(MediaType.APPLICATION_NDJSON)
+      .header("Content-Disposition", "attachment; filename=\"payments-" + tenantId + ".ndjson\"")
+      .body(out -> exporter.writeNdjson(tenantId, filter, out));
   }
 
   @PutMapping("/payments/{id}")
@@ -121,6 +197,44 @@ public class PaymentAdminController {
     return tenant.trim().toLowerCase();
   }
 
+  private ResponseEntity<StreamingResponseBody> errorBody(String message) {
+    byte[] body = ("{\"error\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+    return ResponseEntity.badRequest()
+      .contentType(MediaType.APPLICATION_JSON)
+      .body(out -> out.write(body));
+  }
+
+  private PaymentFilter parseFilter(String status, String dueFrom, String dueTo, String bookingId) {
+    LocalDate from = null;
+    LocalDate to = null;
+    if (dueFrom != null && !dueFrom.isBlank()) {
+      from = parseLocalDate(dueFrom);
+      if (from == null) {
+        return null;
+      }
+    }
+    if (dueTo != null && !dueTo.isBlank()) {
+      to = parseLocalDate(dueTo);
+      if (to == null) {
+        return null;
+      }
+    }
+    return new PaymentFilter(
+      status == null || status.isBlank() ? null : status.trim().toLowerCase(),
+      from,
+      to,
+      bookingId == null || bookingId.isBlank() ? null : bookingId.trim()
+    );
+  }
+
+  private Long parseLong(String value) {
+    try {
+      return Long.parseLong(value.trim());
+    } catch (Exception ex) {
+      return null;
+    }
+  }
+
   private LocalDate parseLocalDate(String value) {
     try {
       return LocalDate.parse(value.trim());
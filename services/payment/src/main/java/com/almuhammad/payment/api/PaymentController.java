@@ -1,38 +1,61 @@
 package com.almuhammad.payment.api;
 
+import com.almuhammad.common.config.TenantTags;
 import com.almuhammad.payment.domain.Payment;
 import com.almuhammad.payment.repo.PaymentRepository;
-import com.razorpay.Order;
-import com.razorpay.RazorpayClient;
-import org.json.JSONObject;
+import com.almuhammad.payment.service.HmacSignatureVerifier;
+import com.almuhammad.payment.service.PaymentProviderClient;
+import com.almuhammad.payment.service.PaymentProviderException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @RestController
 public class PaymentController {
   private final PaymentRepository repo;
+  private final PaymentProviderClient paymentProvider;
+  private final Executor applicationExecutor;
   private final String razorpayKeyId;
   private final String razorpayKeySecret;
+  private final HmacSignatureVerifier razorpaySignatures;
+  private final int bulkMaxBookings;
+  private final TenantTags tenantTags;
+  private final MeterRegistry meterRegistry;
 
   public PaymentController(
       PaymentRepository repo,
+      PaymentProviderClient paymentProvider,
+      @Qualifier("applicationTaskExecutor") Executor applicationExecutor,
+      TenantTags tenantTags,
+      MeterRegistry meterRegistry,
       @Value("${razorpay.key-id:}") String razorpayKeyId,
-      @Value("${razorpay.key-secret:}") String razorpayKeySecret
+      @Value("${razorpay.key-secret:}") String razorpayKeySecret,
+      @Value("${payment.installments.bulk-max-bookings:100}") int bulkMaxBookings
   ) {
     this.repo = repo;
+    this.paymentProvider = paymentProvider;
+    this.applicationExecutor = applicationExecutor;
     this.razorpayKeyId = razorpayKeyId;
     this.razorpayKeySecret = razorpayKeySecret;
+    this.razorpaySignatures = razorpayKeySecret.isBlank() ? null : new HmacSignatureVerifier(razorpayKeySecret);
+    this.bulkMaxBookings = bulkMaxBookings;
+    this.tenantTags = tenantTags;
+    this.meterRegistry = meterRegistry;
   }
 
   public record ChargeRequest(String bookingId, Integer amount) {}
@@ -84,14 +107,16 @@ public class PaymentController {
     }
 
     String tenantId = normalizeTenant(tenant);
-    if (repo.existsByTenantIdAndBookingId(tenantId, bookingId)) {
-      return ResponseEntity.ok(repo.findByTenantIdAndBookingIdOrderByInstallmentNumberAsc(tenantId, bookingId));
+    List<Payment> existing = repo.findByTenantIdAndBookingIdOrderByInstallmentNumberAsc(tenantId, bookingId);
+    if (!existing.isEmpty()) {
+      return ResponseEntity.ok(existing);
     }
 
     int parts = 3;
     int base = totalAmount / parts;
     int remainder = totalAmount % parts;
     LocalDate[] dueDates = resolveDueDates(travelDate);
+    Instant createdAt = Instant.now();
     List<Payment> installments = new ArrayList<>();
     for (int i = 1; i <= parts; i++) {
       int amount = base + (i <= remainder ? 1 : 0);
@@ -103,14 +128,13 @@ public class PaymentController {
       payment.setTotalInstallments(parts);
       payment.setDueDate(dueDates[i - 1]);
       payment.setTravelDate(travelDate);
-      payment.setPaidAt(null);
       payment.setPaymentProvider("razorpay");
       payment.setTenantId(tenantId);
-      payment.setCreatedAt(Instant.now());
-      installments.add(repo.save(payment));
+      payment.setCreatedAt(createdAt);
+      installments.add(payment);
     }
-    installments.sort(Comparator.comparing(p -> p.getInstallmentNumber() == null ? 0 : p.getInstallmentNumber()));
-    return ResponseEntity.ok(installments);
+    repo.insertInstallmentsIgnoringDuplicates(installments);
+    return ResponseEntity.ok(repo.findByTenantIdAndBookingIdOrderByInstallmentNumberAsc(tenantId, bookingId));
   }
 
   @GetMapping("/payment/installments/{bookingId}")
@@ -122,6 +146,37 @@ public class PaymentController {
     return ResponseEntity.ok(repo.findByTenantIdAndBookingIdOrderByInstallmentNumberAsc(tenantId, bookingId));
   }
 
+  @GetMapping("/payment/installments")
+  public ResponseEntity<?> getInstallmentsForBookings(
+      @RequestParam(value = "bookingIds", required = false) List<String> bookingIds,
+      @RequestHeader(value = "X-Tenant-ID", required = false) String tenant
+  ) {
+    Set<String> ids = new LinkedHashSet<>();
+    if (bookingIds != null) {
+      for (String bookingId : bookingIds) {
+        if (bookingId != null && !bookingId.isBlank()) {
+          ids.add(bookingId.trim());
+        }
+      }
+    }
+    if (ids.isEmpty()) {
+      return ResponseEntity.badRequest().body(Map.of("error", "bookingIds is required"));
+    }
+    if (ids.size() > bulkMaxBookings) {
+      return ResponseEntity.badRequest().body(Map.of("error", "At most " + bulkMaxBookings + " bookingIds per request"));
+    }
+
+    String tenantId = normalizeTenant(tenant);
+    Map<String, List<Payment>> grouped = new LinkedHashMap<>();
+    for (String bookingId : ids) {
+      grouped.put(bookingId, new ArrayList<>());
+    }
+    for (Payment payment : repo.findByTenantIdAndBookingIdInOrderByBookingIdAscInstallmentNumberAsc(tenantId, ids)) {
+      grouped.get(payment.getBookingId()).add(payment);
+    }
+    return ResponseEntity.ok(grouped);
+  }
+
   @PostMapping("/payment/installments/pay")
   public ResponseEntity<?> payInstallment(
       @RequestBody InstallmentPayRequest payload,
@@ -151,66 +206,69 @@ public class PaymentController {
   }
 
   @PostMapping("/payment/razorpay/order")
-  public ResponseEntity<?> createRazorpayOrder(
+  public CompletableFuture<ResponseEntity<?>> createRazorpayOrder(
       @RequestBody RazorpayOrderRequest payload,
       @RequestHeader(value = "X-Tenant-ID", required = false) String tenant
   ) {
     if (razorpayKeyId.isBlank() || razorpayKeySecret.isBlank()) {
-      return ResponseEntity.badRequest().body(Map.of("error", "Razorpay is not configured on server"));
+      return completed(ResponseEntity.badRequest().body(Map.of("error", "Razorpay is not configured on server")));
     }
     String bookingId = payload.bookingId() == null ? "" : payload.bookingId().trim();
     Integer installmentNumber = payload.installmentNumber();
     if (bookingId.isBlank() || installmentNumber == null || installmentNumber < 1) {
-      return ResponseEntity.badRequest().body(Map.of("error", "bookingId and installmentNumber are required"));
+      return completed(ResponseEntity.badRequest().body(Map.of("error", "bookingId and installmentNumber are required")));
     }
 
     String tenantId = normalizeTenant(tenant);
     Payment installment = repo.findByTenantIdAndBookingIdAndInstallmentNumber(tenantId, bookingId, installmentNumber)
         .orElse(null);
     if (installment == null) {
-      return ResponseEntity.status(404).body(Map.of("error", "Installment not found"));
+      return completed(ResponseEntity.status(404).body(Map.of("error", "Installment not found")));
     }
     if ("paid".equalsIgnoreCase(installment.getStatus())) {
-      return ResponseEntity.badRequest().body(Map.of("error", "Installment is already paid"));
+      return completed(ResponseEntity.badRequest().body(Map.of("error", "Installment is already paid")));
     }
     if (installment.getTravelDate() != null && !LocalDate.now().isBefore(installment.getTravelDate())) {
-      return ResponseEntity.badRequest().body(Map.of("error", "Installments must be paid before travel date"));
+      return completed(ResponseEntity.badRequest().body(Map.of("error", "Installments must be paid before travel date")));
     }
 
-    try {
-      RazorpayClient razorpay = new RazorpayClient(razorpayKeyId, razorpayKeySecret);
-      JSONObject options = new JSONObject();
-      options.put("amount", installment.getAmount() * 100);
-      options.put("currency", "INR");
-      options.put("receipt", "booking-" + bookingId + "-inst-" + installmentNumber);
-      options.put("payment_capture", 1);
-      JSONObject notes = new JSONObject();
-      notes.put("bookingId", bookingId);
-      notes.put("installmentNumber", installmentNumber);
-      notes.put("tenantId", tenantId);
-      notes.put("paymentMethod", payload.paymentMethod() == null ? "" : payload.paymentMethod());
-      options.put("notes", notes);
+    Map<String, Object> notes = new LinkedHashMap<>();
+    notes.put("bookingId", bookingId);
+    notes.put("installmentNumber", installmentNumber);
+    notes.put("tenantId", tenantId);
+    notes.put("paymentMethod", payload.paymentMethod() == null ? "" : payload.paymentMethod());
+    PaymentProviderClient.OrderRequest orderRequest = new PaymentProviderClient.OrderRequest(
+        installment.getAmount() * 100L,
+        "INR",
+        "booking-" + bookingId + "-inst-" + installmentNumber,
+        notes
+    );
 
-      Order order = razorpay.orders.create(options);
-      String orderId = order.get("id");
-      installment.setExternalOrderId(orderId);
-      installment.setPaymentProvider("razorpay");
-      if (payload.paymentMethod() != null && !payload.paymentMethod().isBlank()) {
-        installment.setPaymentMethod(payload.paymentMethod().trim().toLowerCase());
-      }
-      repo.save(installment);
+    String paymentMethod = payload.paymentMethod() == null || payload.paymentMethod().isBlank()
+        ? null
+        : payload.paymentMethod().trim().toLowerCase();
+    return paymentProvider.createOrder(orderRequest)
+        .<ResponseEntity<?>>thenApplyAsync(order -> {
+          if (repo.attachProviderOrder(installment.getId(), order.id(), "razorpay", paymentMethod) == 0) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Installment is already paid"));
+          }
 
-      return ResponseEntity.ok(Map.of(
-          "orderId", orderId,
-          "amount", installment.getAmount() * 100,
-          "currency", "INR",
-          "keyId", razorpayKeyId,
-          "name", "Al-Muhammad Travels",
-          "description", "Installment " + installmentNumber + " for booking " + bookingId
-      ));
-    } catch (Exception ex) {
-      return ResponseEntity.badRequest().body(Map.of("error", "Unable to create Razorpay order"));
-    }
+          return ResponseEntity.ok(Map.of(
+              "orderId", order.id(),
+              "amount", installment.getAmount() * 100,
+              "currency", "INR",
+              "keyId", razorpayKeyId,
+              "name", "Al-Muhammad Travels",
+              "description", "Installment " + installmentNumber + " for booking " + bookingId
+          ));
+        }, applicationExecutor)
+        .exceptionally(ex -> {
+          Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+          if (cause instanceof PaymentProviderException providerError && providerError.isUnavailable()) {
+            return ResponseEntity.status(503).body(Map.of("error", "Payment provider is busy, please retry shortly"));
+          }
+          return ResponseEntity.badRequest().body(Map.of("error", "Unable to create Razorpay order"));
+        });
   }
 
   @PostMapping("/payment/razorpay/verify")
@@ -240,9 +298,12 @@ public class PaymentController {
       return ResponseEntity.badRequest().body(Map.of("error", "Installments must be paid before travel date"));
     }
 
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
     try {
-      String expectedSignature = hmacSha256(payload.razorpayOrderId() + "|" + payload.razorpayPaymentId(), razorpayKeySecret);
-      if (!expectedSignature.equals(payload.razorpaySignature())) {
+      String signedPayload = payload.razorpayOrderId() + "|" + payload.razorpayPaymentId();
+      if (!razorpaySignatures.verify(signedPayload, payload.razorpaySignature())) {
+        outcome = "invalid_signature";
         return ResponseEntity.badRequest().body(Map.of("error", "Invalid payment signature"));
       }
       installment.setStatus("paid");
@@ -254,12 +315,22 @@ public class PaymentController {
         installment.setPaymentMethod(payload.paymentMethod().trim().toLowerCase());
       }
       repo.save(installment);
+      outcome = "success";
       return ResponseEntity.ok(installment);
     } catch (Exception ex) {
       return ResponseEntity.badRequest().body(Map.of("error", "Unable to verify Razorpay payment"));
+    } finally {
+      sample.stop(Timer.builder("payment.razorpay.verify")
+        .tag("tenant", tenantTags.of(tenantId))
+        .tag("outcome", outcome)
+        .register(meterRegistry));
     }
   }
 
+  private CompletableFuture<ResponseEntity<?>> completed(ResponseEntity<?> response) {
+    return CompletableFuture.completedFuture(response);
+  }
+
   private String normalizeTenant(String tenant) {
     if (tenant == null || tenant.isBlank()) {
       return "public";
@@ -307,16 +378,4 @@ public class PaymentController {
     }
     return new LocalDate[]{d1, d2, d3};
   }
-
-  private String hmacSha256(String data, String secret) throws Exception {
-    Mac sha256Hmac = Mac.getInstance("HmacSHA256");
-    SecretKeySpec secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-    sha256Hmac.init(secretKey);
-    byte[] hash = sha256Hmac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-    StringBuilder result = new StringBuilder();
-    for (byte b : hash) {
-      result.append(String.format("%02x", b));
-    }
-    return result.toString();
-  }
 }
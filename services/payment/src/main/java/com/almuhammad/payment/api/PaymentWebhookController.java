@@ -0,0 +1,53 @@
+package com.almuhammad.payment.api;
+
+import com.almuhammad.payment.repo.PaymentWebhookEventRepository;
+import com.almuhammad.payment.service.HmacSignatureVerifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+
+@RestController
+public class PaymentWebhookController {
+  private final PaymentWebhookEventRepository events;
+  private final HmacSignatureVerifier webhookSignatures;
+
+  public PaymentWebhookController(
+      PaymentWebhookEventRepository events,
+      @Value("${razorpay.webhook.secret:}") String webhookSecret
+  ) {
+    this.events = events;
+    this.webhookSignatures = webhookSecret.isBlank() ? null : new HmacSignatureVerifier(webhookSecret);
+  }
+
+  @PostMapping("/payment/razorpay/webhook")
+  public ResponseEntity<Map<String, Object>> receive(
+      @RequestBody byte[] body,
+      @RequestHeader(value = "X-Razorpay-Signature", required = false) String signature,
+      @RequestHeader(value = "X-Razorpay-Event-Id", required = false) String eventId
+  ) {
+    if (webhookSignatures == null) {
+      return ResponseEntity.status(503).body(Map.of("error", "Razorpay webhook is not configured on server"));
+    }
+    if (signature == null || !webhookSignatures.verify(body, signature.trim())) {
+      return ResponseEntity.status(401).body(Map.of("error", "Invalid webhook signature"));
+    }
+
+    String id = eventId == null || eventId.isBlank() ? sha256Hex(body) : eventId.trim();
+    events.enqueue(id, null, new String(body, StandardCharsets.UTF_8), Instant.now());
+    return ResponseEntity.ok(Map.of("status", "accepted"));
+  }
+
+  private String sha256Hex(byte[] body) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+    } catch (Exception ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
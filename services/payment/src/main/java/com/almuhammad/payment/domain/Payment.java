@@ -6,13 +6,26 @@ import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "payments")
+@Table(
+  name = "payments",
+  uniqueConstraints = {
+    @UniqueConstraint(
+      name = "uk_payments_tenant_booking_installment",
+      columnNames = {"tenant_id", "booking_id", "installment_number"}
+    )
+  },
+  indexes = {
+    @Index(name = "idx_payments_tenant_id", columnList = "tenant_id, id"),
+    @Index(name = "idx_payments_tenant_status_due", columnList = "tenant_id, status, due_date"),
+    @Index(name = "idx_payments_external_order", columnList = "external_order_id")
+  }
+)
 public class Payment {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  @Column(nullable = false)
+  @Column(name = "booking_id", nullable = false)
   private String bookingId;
 
   @Column(nullable = false)
@@ -21,13 +34,13 @@ public class Payment {
   @Column(nullable = false)
   private String status;
 
-  @Column
+  @Column(name = "installment_number")
   private Integer installmentNumber;
 
   @Column
   private Integer totalInstallments;
 
-  @Column
+  @Column(name = "due_date")
   private LocalDate dueDate;
 
   @Column
@@ -42,13 +55,13 @@ public class Payment {
   @Column
   private String paymentMethod;
 
-  @Column
+  @Column(name = "external_order_id")
   private String externalOrderId;
 
   @Column
   private String externalPaymentId;
 
-  @Column
+  @Column(name = "tenant_id")
   private String tenantId;
 
   @Column(nullable = false)
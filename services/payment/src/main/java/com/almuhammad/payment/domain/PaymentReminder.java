@@ -0,0 +1,60 @@
+package com.almuhammad.payment.domain;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Entity
+@Table(
+  name = "payment_reminders",
+  uniqueConstraints = {
+    @UniqueConstraint(name = "uk_payment_reminders_payment_kind", columnNames = {"payment_id", "kind"})
+  },
+  indexes = {
+    @Index(name = "idx_payment_reminders_tenant_id", columnList = "tenant_id, id")
+  }
+)
+public class PaymentReminder {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "payment_id", nullable = false)
+  private Long paymentId;
+
+  @Column(name = "tenant_id", nullable = false)
+  private String tenantId;
+
+  @Column(nullable = false)
+  private String bookingId;
+
+  @Column
+  private Integer installmentNumber;
+
+  @Column(nullable = false)
+  private String kind;
+
+  @Column
+  private LocalDate dueDate;
+
+  @Column(nullable = false)
+  private Instant createdAt;
+
+  public Long getId() { return id; }
+  public void setId(Long id) { this.id = id; }
+  public Long getPaymentId() { return paymentId; }
+  public void setPaymentId(Long paymentId) { this.paymentId = paymentId; }
+  public String getTenantId() { return tenantId; }
+  public void setTenantId(String tenantId) { this.tenantId = tenantId; }
+  public String getBookingId() { return bookingId; }
+  public void setBookingId(String bookingId) { this.bookingId = bookingId; }
+  public Integer getInstallmentNumber() { return installmentNumber; }
+  public void setInstallmentNumber(Integer installmentNumber) { this.installmentNumber = installmentNumber; }
+  public String getKind() { return kind; }
+  public void setKind(String kind) { this.kind = kind; }
+  public LocalDate getDueDate() { return dueDate; }
+  public void setDueDate(LocalDate dueDate) { this.dueDate = dueDate; }
+  public Instant getCreatedAt() { return createdAt; }
+  public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,69 @@
+package com.almuhammad.payment.domain;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(
+  name = "payment_webhook_events",
+  uniqueConstraints = {
+    @UniqueConstraint(name = "uk_payment_webhook_events_event_id", columnNames = {"event_id"})
+  },
+  indexes = {
+    @Index(name = "idx_payment_webhook_events_status", columnList = "status, id")
+  }
+)
+public class PaymentWebhookEvent {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "event_id", nullable = false)
+  private String eventId;
+
+  @Column
+  private String eventType;
+
+  @Column(nullable = false, columnDefinition = "text")
+  private String payload;
+
+  @Column(nullable = false)
+  private String status;
+
+  @Column(nullable = false)
+  private Integer attempts;
+
+  @Column
+  private String lastError;
+
+  @Column(nullable = false)
+  private Instant receivedAt;
+
+  @Column
+  private Instant processedAt;
+
+  @Column(nullable = false)
+  private Instant nextAttemptAt;
+
+  public Long getId() { return id; }
+  public void setId(Long id) { this.id = id; }
+  public String getEventId() { return eventId; }
+  public void setEventId(String eventId) { this.eventId = eventId; }
+  public String getEventType() { return eventType; }
+  public void setEventType(String eventType) { this.eventType = eventType; }
+  public String getPayload() { return payload; }
+  public void setPayload(String payload) { this.payload = payload; }
+  public String getStatus() { return status; }
+  public void setStatus(String status) { this.status = status; }
+  public Integer getAttempts() { return attempts; }
+  public void setAttempts(Integer attempts) { this.attempts = attempts; }
+  public String getLastError() { return lastError; }
+  public void setLastError(String lastError) { this.lastError = lastError; }
+  public Instant getReceivedAt() { return receivedAt; }
+  public void setReceivedAt(Instant receivedAt) { this.receivedAt = receivedAt; }
+  public Instant getProcessedAt() { return processedAt; }
+  public void setProcessedAt(Instant processedAt) { this.processedAt = processedAt; }
+  public Instant getNextAttemptAt() { return nextAttemptAt; }
+  public void setNextAttemptAt(Instant nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+}
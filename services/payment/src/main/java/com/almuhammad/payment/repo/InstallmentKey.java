@@ -0,0 +1,5 @@
+package com.almuhammad.payment.repo;
+
+import java.time.LocalDate;
+
+public record InstallmentKey(Long id, LocalDate dueDate) {}
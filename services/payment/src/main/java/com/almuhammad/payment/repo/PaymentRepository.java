@@ -2,13 +2,34 @@ package com.almuhammad.payment.repo;
 
 import com.almuhammad.payment.domain.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface PaymentRepository extends JpaRepository<Payment, Long> {
+public interface PaymentRepository extends JpaRepository<Payment, Long>, PaymentRepositoryCustom {
   List<Payment> findByTenantId(String tenantId);
+  @Transactional(readOnly = true)
   List<Payment> findByTenantIdAndBookingIdOrderByInstallmentNumberAsc(String tenantId, String bookingId);
+  @Transactional(readOnly = true)
+  List<Payment> findByTenantIdAndBookingIdInOrderByBookingIdAscInstallmentNumberAsc(String tenantId, Collection<String> bookingIds);
+  List<Payment> findByExternalOrderIdIn(Collection<String> externalOrderIds);
   boolean existsByTenantIdAndBookingId(String tenantId, String bookingId);
   Optional<Payment> findByTenantIdAndBookingIdAndInstallmentNumber(String tenantId, String bookingId, Integer installmentNumber);
+
+  @Modifying
+  @Transactional
+  @Query("update Payment p set p.externalOrderId = :orderId, p.paymentProvider = :provider,"
+    + " p.paymentMethod = coalesce(:method, p.paymentMethod)"
+    + " where p.id = :id and p.status <> 'paid'")
+  int attachProviderOrder(
+    @Param("id") Long id,
+    @Param("orderId") String orderId,
+    @Param("provider") String provider,
+    @Param("method") String method
+  );
 }
@@ -0,0 +1,17 @@
+package com.almuhammad.payment.repo;
+
+import com.almuhammad.payment.domain.Payment;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface PaymentRepositoryCustom {
+  List<PaymentSummary> findAdminPage(String tenantId, PaymentFilter filter, Long afterId, int limit);
+  Stream<Payment> streamAdmin(String tenantId, PaymentFilter filter);
+  int insertInstallmentsIgnoringDuplicates(List<Payment> installments);
+  List<InstallmentKey> lockDueChunk(LocalDate dueBy, InstallmentKey after, int limit);
+  int insertRemindersIgnoringDuplicates(List<Long> paymentIds, LocalDate today, Instant createdAt);
+  int markOverdue(List<Long> paymentIds, LocalDate today);
+}
@@ -0,0 +1,194 @@
+package com.almuhammad.payment.repo;
+
+import com.almuhammad.payment.domain.Payment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom {
+  private static final String INSERT_INSTALLMENTS = "insert into payments"
+    + " (booking_id, amount, status, installment_number, total_installments, due_date, travel_date,"
+    + " payment_provider, tenant_id, created_at) values ";
+  private static final int INSERT_COLUMNS = 10;
+  private static final String INSERT_REMINDERS = "insert into payment_reminders"
+    + " (payment_id, tenant_id, booking_id, installment_number, kind, due_date, created_at)"
+    + " select id, tenant_id, booking_id, installment_number,"
+    + " case when due_date < :today then 'overdue' else 'upcoming' end, due_date, :createdAt"
+    + " from payments where id in (:ids)"
+    + " on conflict (payment_id, kind) do nothing";
+  private static final String MARK_OVERDUE = "update payments set status = 'overdue'"
+    + " where id in (:ids) and status = 'due' and due_date < :today";
+
+  private final EntityManager entityManager;
+
+  public PaymentRepositoryCustomImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<PaymentSummary> findAdminPage(String tenantId, PaymentFilter filter, Long afterId, int limit) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<PaymentSummary> query = cb.createQuery(PaymentSummary.class);
+    Root<Payment> payment = query.from(Payment.class);
+    query.select(cb.construct(
+        PaymentSummary.class,
+        payment.get("id"),
+        payment.get("bookingId"),
+        payment.get("amount"),
+        payment.get("status"),
+        payment.get("installmentNumber"),
+        payment.get("totalInstallments"),
+        payment.get("dueDate"),
+        payment.get("travelDate"),
+        payment.get("paidAt"),
+        payment.get("paymentProvider"),
+        payment.get("paymentMethod"),
+        payment.get("createdAt")
+      ))
+      .where(adminPredicates(cb, payment, tenantId, filter, afterId))
+      .orderBy(cb.desc(payment.get("id")));
+    return entityManager.createQuery(query)
+      .setMaxResults(limit)
+      .getResultList();
+  }
+
+  @Override
+  public Stream<Payment> streamAdmin(String tenantId, PaymentFilter filter) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Payment> query = cb.createQuery(Payment.class);
+    Root<Payment> payment = query.from(Payment.class);
+    query.select(payment)
+      .where(adminPredicates(cb, payment, tenantId, filter, null))
+      .orderBy(cb.desc(payment.get("id")));
+    return entityManager.createQuery(query)
+      .setHint(HibernateHints.HINT_FETCH_SIZE, 500)
+      .setHint(HibernateHints.HINT_READ_ONLY, true)
+      .getResultStream();
+  }
+
+  @Override
+  @Transactional
+  public int insertInstallmentsIgnoringDuplicates(List<Payment> installments) {
+    if (installments.isEmpty()) {
+      return 0;
+    }
+    StringBuilder sql = new StringBuilder(INSERT_INSTALLMENTS);
+    for (int row = 0; row < installments.size(); row++) {
+      sql.append(row == 0 ? "(" : ", (");
+      for (int column = 1; column <= INSERT_COLUMNS; column++) {
+        sql.append(column == 1 ? "?" : ", ?").append(row * INSERT_COLUMNS + column);
+      }
+      sql.append(')');
+    }
+    sql.append(" on conflict (tenant_id, booking_id, installment_number) do nothing");
+
+    Query insert = entityManager.createNativeQuery(sql.toString());
+    int position = 1;
+    for (Payment p : installments) {
+      insert.setParameter(position++, p.getBookingId());
+      insert.setParameter(position++, p.getAmount());
+      insert.setParameter(position++, p.getStatus());
+      insert.setParameter(position++, p.getInstallmentNumber());
+      insert.setParameter(position++, p.getTotalInstallments());
+      insert.setParameter(position++, p.getDueDate());
+      insert.setParameter(position++, p.getTravelDate());
+      insert.setParameter(position++, p.getPaymentProvider());
+      insert.setParameter(position++, p.getTenantId());
+      insert.setParameter(position++, p.getCreatedAt());
+    }
+    return insert.executeUpdate();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<InstallmentKey> lockDueChunk(LocalDate dueBy, InstallmentKey after, int limit) {
+    StringBuilder sql = new StringBuilder("select id, due_date from payments")
+      .append(" where status = 'due' and due_date <= :dueBy");
+    if (after != null) {
+      sql.append(" and (due_date, id) > (:afterDueDate, :afterId)");
+    }
+    sql.append(" order by due_date, id limit :limit for update skip locked");
+
+    NativeQuery<Object[]> query = entityManager.createNativeQuery(sql.toString())
+      .unwrap(NativeQuery.class)
+      .addScalar("id", Long.class)
+      .addScalar("due_date", LocalDate.class);
+    query.setParameter("dueBy", dueBy);
+    query.setParameter("limit", limit);
+    if (after != null) {
+      query.setParameter("afterDueDate", after.dueDate());
+      query.setParameter("afterId", after.id());
+    }
+
+    List<InstallmentKey> keys = new ArrayList<>();
+    for (Object[] row : query.getResultList()) {
+      keys.add(new InstallmentKey((Long) row[0], (LocalDate) row[1]));
+    }
+    return keys;
+  }
+
+  @Override
+  @Transactional
+  public int insertRemindersIgnoringDuplicates(List<Long> paymentIds, LocalDate today, Instant createdAt) {
+    if (paymentIds.isEmpty()) {
+      return 0;
+    }
+    return entityManager.createNativeQuery(INSERT_REMINDERS)
+      .setParameter("ids", paymentIds)
+      .setParameter("today", today)
+      .setParameter("createdAt", createdAt)
+      .executeUpdate();
+  }
+
+  @Override
+  @Transactional
+  public int markOverdue(List<Long> paymentIds, LocalDate today) {
+    if (paymentIds.isEmpty()) {
+      return 0;
+    }
+    return entityManager.createNativeQuery(MARK_OVERDUE)
+      .setParameter("ids", paymentIds)
+      .setParameter("today", today)
+      .executeUpdate();
+  }
+
+  private Predicate[] adminPredicates(
+      CriteriaBuilder cb,
+      Root<Payment> payment,
+      String tenantId,
+      PaymentFilter filter,
+      Long afterId
+  ) {
+    List<Predicate> where = new ArrayList<>();
+    where.add(cb.equal(payment.get("tenantId"), tenantId));
+    if (filter.status() != null) {
+      where.add(cb.equal(payment.get("status"), filter.status()));
+    }
+    if (filter.bookingId() != null) {
+      where.add(cb.equal(payment.get("bookingId"), filter.bookingId()));
+    }
+    if (filter.dueFrom() != null) {
+      where.add(cb.greaterThanOrEqualTo(payment.<LocalDate>get("dueDate"), filter.dueFrom()));
+    }
+    if (filter.dueTo() != null) {
+      where.add(cb.lessThanOrEqualTo(payment.<LocalDate>get("dueDate"), filter.dueTo()));
+    }
+    if (afterId != null) {
+      where.add(cb.lessThan(payment.<Long>get("id"), afterId));
+    }
+    return where.toArray(new Predicate[0]);
+  }
+}
@@ -0,0 +1,19 @@
+package com.almuhammad.payment.repo;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record PaymentSummary(
+  Long id,
+  String bookingId,
+  Integer amount,
+  String status,
+  Integer installmentNumber,
+  Integer totalInstallments,
+  LocalDate dueDate,
+  LocalDate travelDate,
+  Instant paidAt,
+  String paymentProvider,
+  String paymentMethod,
+  Instant createdAt
+) {}
@@ -0,0 +1,30 @@
+package com.almuhammad.payment.repo;
+
+import com.almuhammad.payment.domain.PaymentWebhookEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PaymentWebhookEventRepository extends JpaRepository<PaymentWebhookEvent, Long> {
+  @Modifying
+  @Transactional
+  @Query(value = "insert into payment_webhook_events"
+    + " (event_id, event_type, payload, status, attempts, received_at, next_attempt_at)"
+    + " values (:eventId, :eventType, :payload, 'pending', 0, :receivedAt, :receivedAt)"
+    + " on conflict (event_id) do nothing", nativeQuery = true)
+  int enqueue(
+    @Param("eventId") String eventId,
+    @Param("eventType") String eventType,
+    @Param("payload") String payload,
+    @Param("receivedAt") Instant receivedAt
+  );
+
+  @Query(value = "select * from payment_webhook_events where status = 'pending' and next_attempt_at <= :now"
+    + " order by id limit :limit for update skip locked", nativeQuery = true)
+  List<PaymentWebhookEvent> claimPending(@Param("now") Instant now, @Param("limit") int limit);
+}
@@ -0,0 +1,46 @@
+package com.almuhammad.payment.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CircuitBreaker {
+  private final int failureThreshold;
+  private final long openMillis;
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private final AtomicLong openUntil = new AtomicLong();
+  private final AtomicLong trialStartedAt = new AtomicLong();
+
+  public CircuitBreaker(int failureThreshold, long openMillis) {
+    this.failureThreshold = failureThreshold;
+    this.openMillis = openMillis;
+  }
+
+  public boolean allowRequest() {
+    long until = openUntil.get();
+    if (until == 0) {
+      return true;
+    }
+    long now = System.currentTimeMillis();
+    if (now < until) {
+      return false;
+    }
+    long trial = trialStartedAt.get();
+    if (trial != 0 && now - trial < openMillis) {
+      return false;
+    }
+    return trialStartedAt.compareAndSet(trial, now);
+  }
+
+  public void recordSuccess() {
+    consecutiveFailures.set(0);
+    openUntil.set(0);
+    trialStartedAt.set(0);
+  }
+
+  public void recordFailure() {
+    if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+      openUntil.set(System.currentTimeMillis() + openMillis);
+      trialStartedAt.set(0);
+    }
+  }
+}
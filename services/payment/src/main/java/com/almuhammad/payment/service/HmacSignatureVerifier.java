@@ -0,0 +1,89 @@
+package com.almuhammad.payment.service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+public class HmacSignatureVerifier {
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final int SIGNATURE_BYTES = 32;
+  private static final byte[] HEX_VALUES = new byte[128];
+
+  static {
+    Arrays.fill(HEX_VALUES, (byte) -1);
+    for (int i = 0; i < 10; i++) {
+      HEX_VALUES['0' + i] = (byte) i;
+    }
+    for (int i = 0; i < 6; i++) {
+      HEX_VALUES['a' + i] = (byte) (10 + i);
+      HEX_VALUES['A' + i] = (byte) (10 + i);
+    }
+  }
+
+  private final Mac prototype;
+  private final BlockingQueue<Mac> pool;
+
+  public HmacSignatureVerifier(String secret) {
+    this(secret, Runtime.getRuntime().availableProcessors() * 2);
+  }
+
+  public HmacSignatureVerifier(String secret, int poolSize) {
+    try {
+      this.prototype = Mac.getInstance(ALGORITHM);
+      this.prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Unable to initialise " + ALGORITHM, ex);
+    }
+    this.pool = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+  }
+
+  public boolean verify(String payload, String hexSignature) {
+    return verify(payload.getBytes(StandardCharsets.UTF_8), hexSignature);
+  }
+
+  public boolean verify(byte[] payload, String hexSignature) {
+    byte[] provided = decodeHex(hexSignature);
+    if (provided == null) {
+      return false;
+    }
+    Mac mac = borrow();
+    try {
+      return MessageDigest.isEqual(mac.doFinal(payload), provided);
+    } finally {
+      pool.offer(mac);
+    }
+  }
+
+  private Mac borrow() {
+    Mac pooled = pool.poll();
+    if (pooled != null) {
+      return pooled;
+    }
+    try {
+      return (Mac) prototype.clone();
+    } catch (CloneNotSupportedException ex) {
+      throw new IllegalStateException(ALGORITHM + " provider does not support cloning", ex);
+    }
+  }
+
+  private static byte[] decodeHex(String hex) {
+    if (hex == null || hex.length() != SIGNATURE_BYTES * 2) {
+      return null;
+    }
+    byte[] out = new byte[SIGNATURE_BYTES];
+    for (int i = 0; i < SIGNATURE_BYTES; i++) {
+      char high = hex.charAt(2 * i);
+      char low = hex.charAt(2 * i + 1);
+      if (high >= 128 || low >= 128 || HEX_VALUES[high] < 0 || HEX_VALUES[low] < 0) {
+        return null;
+      }
+      out[i] = (byte) ((HEX_VALUES[high] << 4) | HEX_VALUES[low]);
+    }
+    return out;
+  }
+}
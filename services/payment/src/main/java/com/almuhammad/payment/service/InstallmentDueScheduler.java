@@ -0,0 +1,59 @@
+package com.almuhammad.payment.service;
+
+import com.almuhammad.payment.repo.InstallmentKey;
+import com.almuhammad.payment.repo.PaymentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+@Service
+public class InstallmentDueScheduler {
+  private final PaymentRepository payments;
+  private final TransactionTemplate tx;
+  private final ZoneId zone;
+  private final int reminderDays;
+  private final int chunkSize;
+
+  public InstallmentDueScheduler(
+      PaymentRepository payments,
+      PlatformTransactionManager transactionManager,
+      @Value("${payment.due.zone:Asia/Kolkata}") String zone,
+      @Value("${payment.due.reminder-days:3}") int reminderDays,
+      @Value("${payment.due.chunk-size:500}") int chunkSize
+  ) {
+    this.payments = payments;
+    this.tx = new TransactionTemplate(transactionManager);
+    this.zone = ZoneId.of(zone);
+    this.reminderDays = Math.max(0, reminderDays);
+    this.chunkSize = Math.max(1, chunkSize);
+  }
+
+  @Scheduled(cron = "${payment.due.cron:0 */15 * * * *}", zone = "${payment.due.zone:Asia/Kolkata}")
+  public void run() {
+    LocalDate today = LocalDate.now(zone);
+    LocalDate dueBy = today.plusDays(reminderDays);
+    InstallmentKey after = null;
+    do {
+      InstallmentKey from = after;
+      after = tx.execute(status -> advance(today, dueBy, from));
+    } while (after != null);
+  }
+
+  private InstallmentKey advance(LocalDate today, LocalDate dueBy, InstallmentKey after) {
+    List<InstallmentKey> chunk = payments.lockDueChunk(dueBy, after, chunkSize);
+    if (chunk.isEmpty()) {
+      return null;
+    }
+    List<Long> ids = chunk.stream().map(InstallmentKey::id).toList();
+    payments.insertRemindersIgnoringDuplicates(ids, today, Instant.now());
+    payments.markOverdue(ids, today);
+    return chunk.size() < chunkSize ? null : chunk.get(chunk.size() - 1);
+  }
+}
@@ -0,0 +1,106 @@
+package com.almuhammad.payment.service;
+
+import com.almuhammad.payment.domain.Payment;
+import com.almuhammad.payment.repo.PaymentFilter;
+import com.almuhammad.payment.repo.PaymentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+@Service
+public class PaymentExporter {
+  private static final String CSV_HEADER = "id,bookingId,installmentNumber,totalInstallments,amount,status,"
+    + "dueDate,travelDate,paidAt,paymentProvider,paymentMethod,externalOrderId,externalPaymentId,createdAt\n";
+
+  private final PaymentRepository repo;
+  private final EntityManager entityManager;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTx;
+
+  public PaymentExporter(
+      PaymentRepository repo,
+      EntityManager entityManager,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager
+  ) {
+    this.repo = repo;
+    this.entityManager = entityManager;
+    this.objectMapper = objectMapper;
+    this.readOnlyTx = new TransactionTemplate(transactionManager);
+    this.readOnlyTx.setReadOnly(true);
+  }
+
+  public void writeNdjson(String tenantId, PaymentFilter filter, OutputStream out) {
+    export(tenantId, filter, payment -> {
+      out.write(objectMapper.writeValueAsBytes(payment));
+      out.write('\n');
+    });
+  }
+
+  public void writeCsv(String tenantId, PaymentFilter filter, OutputStream out) {
+    try {
+      out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    export(tenantId, filter, payment -> out.write(csvRow(payment).getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private void export(String tenantId, PaymentFilter filter, RowWriter writer) {
+    readOnlyTx.executeWithoutResult(status -> {
+      try (Stream<Payment> rows = repo.streamAdmin(tenantId, filter)) {
+        rows.forEach(payment -> {
+          try {
+            writer.write(payment);
+          } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+          }
+          entityManager.detach(payment);
+        });
+      }
+    });
+  }
+
+  private String csvRow(Payment p) {
+    return String.join(",",
+      csv(p.getId()),
+      csv(p.getBookingId()),
+      csv(p.getInstallmentNumber()),
+      csv(p.getTotalInstallments()),
+      csv(p.getAmount()),
+      csv(p.getStatus()),
+      csv(p.getDueDate()),
+      csv(p.getTravelDate()),
+      csv(p.getPaidAt()),
+      csv(p.getPaymentProvider()),
+      csv(p.getPaymentMethod()),
+      csv(p.getExternalOrderId()),
+      csv(p.getExternalPaymentId()),
+      csv(p.getCreatedAt())
+    ) + "\n";
+  }
+
+  private String csv(Object value) {
+    if (value == null) {
+      return "";
+    }
+    String text = String.valueOf(value);
+    if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+      return text;
+    }
+    return "\"" + text.replace("\"", "\"\"") + "\"";
+  }
+
+  @FunctionalInterface
+  private interface RowWriter {
+    void write(Payment payment) throws IOException;
+  }
+}
@@ -0,0 +1,11 @@
+package com.almuhammad.payment.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface PaymentProviderClient {
+  CompletableFuture<ProviderOrder> createOrder(OrderRequest request);
+
+  record OrderRequest(long amountMinor, String currency, String receipt, Map<String, Object> notes) {}
+  record ProviderOrder(String id) {}
+}
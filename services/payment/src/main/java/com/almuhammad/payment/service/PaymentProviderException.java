@@ -0,0 +1,14 @@
+package com.almuhammad.payment.service;
+
+public class PaymentProviderException extends RuntimeException {
+  private final boolean unavailable;
+
+  public PaymentProviderException(String message, boolean unavailable) {
+    super(message);
+    this.unavailable = unavailable;
+  }
+
+  public boolean isUnavailable() {
+    return unavailable;
+  }
+}
@@ -0,0 +1,134 @@
+package com.almuhammad.payment.service;
+
+import com.almuhammad.common.config.TenantTags;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+@Service
+public class RazorpayProviderClient implements PaymentProviderClient {
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final URI ordersUri;
+  private final String authorization;
+  private final Duration readTimeout;
+  private final Semaphore bulkhead;
+  private final CircuitBreaker circuitBreaker;
+  private final TenantTags tenantTags;
+  private final MeterRegistry meterRegistry;
+
+  public RazorpayProviderClient(
+      ObjectMapper objectMapper,
+      TenantTags tenantTags,
+      MeterRegistry meterRegistry,
+      @Value("${razorpay.base-url:https://api.razorpay.com}") String baseUrl,
+      @Value("${razorpay.key-id:}") String keyId,
+      @Value("${razorpay.key-secret:}") String keySecret,
+      @Value("${razorpay.connect-timeout-ms:2000}") long connectTimeoutMs,
+      @Value("${razorpay.read-timeout-ms:5000}") long readTimeoutMs,
+      @Value("${razorpay.max-concurrent-calls:20}") int maxConcurrentCalls,
+      @Value("${razorpay.circuit-breaker.failure-threshold:5}") int failureThreshold,
+      @Value("${razorpay.circuit-breaker.open-seconds:30}") long openSeconds
+  ) {
+    this.httpClient = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+      .build();
+    this.objectMapper = objectMapper;
+    this.ordersUri = URI.create(baseUrl.replaceAll("/+$", "") + "/v1/orders");
+    this.authorization = "Basic " + Base64.getEncoder()
+      .encodeToString((keyId + ":" + keySecret).getBytes(StandardCharsets.UTF_8));
+    this.readTimeout = Duration.ofMillis(readTimeoutMs);
+    this.bulkhead = new Semaphore(maxConcurrentCalls);
+    this.circuitBreaker = new CircuitBreaker(failureThreshold, openSeconds * 1000);
+    this.tenantTags = tenantTags;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public CompletableFuture<ProviderOrder> createOrder(OrderRequest request) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String tenant = tenantTags.current();
+    if (!circuitBreaker.allowRequest()) {
+      sample.stop(orderTimer(tenant, "circuit_open"));
+      return CompletableFuture.failedFuture(new PaymentProviderException("Payment provider circuit is open", true));
+    }
+    if (!bulkhead.tryAcquire()) {
+      sample.stop(orderTimer(tenant, "bulkhead_full"));
+      return CompletableFuture.failedFuture(new PaymentProviderException("Too many concurrent payment provider calls", true));
+    }
+
+    HttpRequest httpRequest;
+    try {
+      Map<String, Object> body = new LinkedHashMap<>();
+      body.put("amount", request.amountMinor());
+      body.put("currency", request.currency());
+      body.put("receipt", request.receipt());
+      body.put("payment_capture", 1);
+      body.put("notes", request.notes());
+      httpRequest = HttpRequest.newBuilder(ordersUri)
+        .timeout(readTimeout)
+        .header("Authorization", authorization)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+        .build();
+    } catch (Exception ex) {
+      bulkhead.release();
+      sample.stop(orderTimer(tenant, "error"));
+      return CompletableFuture.failedFuture(new PaymentProviderException("Unable to build order request", false));
+    }
+
+    return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+      .handle((response, error) -> {
+        bulkhead.release();
+        if (error != null || response.statusCode() >= 500) {
+          circuitBreaker.recordFailure();
+          sample.stop(orderTimer(tenant, "unavailable"));
+          throw new PaymentProviderException("Payment provider unavailable", true);
+        }
+        circuitBreaker.recordSuccess();
+        if (response.statusCode() >= 400) {
+          sample.stop(orderTimer(tenant, "rejected"));
+          throw new PaymentProviderException("Payment provider rejected order: HTTP " + response.statusCode(), false);
+        }
+        sample.stop(orderTimer(tenant, "success"));
+        return parseOrder(response.body());
+      });
+  }
+
+  private Timer orderTimer(String tenant, String outcome) {
+    return Timer.builder("payment.razorpay.order")
+      .tag("tenant", tenant)
+      .tag("outcome", outcome)
+      .register(meterRegistry);
+  }
+
+  private ProviderOrder parseOrder(byte[] body) {
+    try {
+      JsonNode json = objectMapper.readTree(body);
+      String id = json.path("id").asText("");
+      if (id.isBlank()) {
+        throw new PaymentProviderException("Payment provider returned no order id", false);
+      }
+      return new ProviderOrder(id);
+    } catch (PaymentProviderException ex) {
+      throw ex;
+    } catch (Exception ex) {
+      throw new PaymentProviderException("Unable to parse payment provider response", false);
+    }
+  }
+}
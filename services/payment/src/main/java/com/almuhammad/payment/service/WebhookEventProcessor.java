@@ -0,0 +1,162 @@
+package com.almuhammad.payment.service;
+
+import com.almuhammad.payment.domain.Payment;
+import com.almuhammad.payment.domain.PaymentWebhookEvent;
+import com.almuhammad.payment.repo.PaymentRepository;
+import com.almuhammad.payment.repo.PaymentWebhookEventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class WebhookEventProcessor {
+  private static final Set<String> CAPTURE_EVENTS = Set.of("payment.captured", "order.paid");
+
+  private final PaymentWebhookEventRepository events;
+  private final PaymentRepository payments;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate tx;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final long retryBaseMillis;
+  private final long retryMaxMillis;
+
+  public WebhookEventProcessor(
+      PaymentWebhookEventRepository events,
+      PaymentRepository payments,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${razorpay.webhook.batch-size:200}") int batchSize,
+      @Value("${razorpay.webhook.max-attempts:5}") int maxAttempts,
+      @Value("${razorpay.webhook.retry-base-ms:5000}") long retryBaseMillis,
+      @Value("${razorpay.webhook.retry-max-ms:600000}") long retryMaxMillis
+  ) {
+    this.events = events;
+    this.payments = payments;
+    this.objectMapper = objectMapper;
+    this.tx = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.retryBaseMillis = retryBaseMillis;
+    this.retryMaxMillis = retryMaxMillis;
+  }
+
+  private record Capture(String orderId, String paymentId, String method) {}
+
+  @Scheduled(fixedDelayString = "${razorpay.webhook.poll-interval-ms:1000}")
+  public void drain() {
+    Integer claimed;
+    do {
+      claimed = tx.execute(status -> applyBatch());
+    } while (claimed != null && claimed == batchSize);
+  }
+
+  private int applyBatch() {
+    Instant now = Instant.now();
+    List<PaymentWebhookEvent> batch = events.claimPending(now, batchSize);
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    Map<Long, Capture> captures = new HashMap<>();
+    Set<String> orderIds = new HashSet<>();
+    for (PaymentWebhookEvent event : batch) {
+      try {
+        Capture capture = parse(event);
+        if (capture != null) {
+          captures.put(event.getId(), capture);
+          orderIds.add(capture.orderId());
+        }
+      } catch (Exception ex) {
+        event.setAttempts(event.getAttempts() == null ? 1 : event.getAttempts() + 1);
+        event.setLastError("Unreadable payload");
+        event.setStatus("failed");
+        event.setProcessedAt(now);
+      }
+    }
+
+    Map<String, Payment> byOrderId = new HashMap<>();
+    if (!orderIds.isEmpty()) {
+      for (Payment payment : payments.findByExternalOrderIdIn(orderIds)) {
+        byOrderId.put(payment.getExternalOrderId(), payment);
+      }
+    }
+
+    List<Payment> changed = new ArrayList<>();
+    for (PaymentWebhookEvent event : batch) {
+      if (!"pending".equals(event.getStatus())) {
+        continue;
+      }
+      Capture capture = captures.get(event.getId());
+      if (capture == null) {
+        event.setStatus("ignored");
+        event.setProcessedAt(now);
+        continue;
+      }
+      Payment payment = byOrderId.get(capture.orderId());
+      if (payment == null) {
+        retryLater(event, "No installment for order " + capture.orderId(), now);
+        continue;
+      }
+      if (!("paid".equalsIgnoreCase(payment.getStatus()) && capture.paymentId().equals(payment.getExternalPaymentId()))) {
+        payment.setStatus("paid");
+        if (payment.getPaidAt() == null) {
+          payment.setPaidAt(now);
+        }
+        payment.setExternalPaymentId(capture.paymentId());
+        payment.setPaymentProvider("razorpay");
+        if (!capture.method().isBlank()) {
+          payment.setPaymentMethod(capture.method().toLowerCase());
+        }
+        changed.add(payment);
+      }
+      event.setStatus("applied");
+      event.setProcessedAt(now);
+    }
+
+    payments.saveAll(changed);
+    events.saveAll(batch);
+    return batch.size();
+  }
+
+  private Capture parse(PaymentWebhookEvent event) throws Exception {
+    JsonNode root = objectMapper.readTree(event.getPayload());
+    String type = root.path("event").asText("");
+    event.setEventType(type);
+    if (!CAPTURE_EVENTS.contains(type)) {
+      return null;
+    }
+    JsonNode entity = root.path("payload").path("payment").path("entity");
+    String orderId = entity.path("order_id").asText("");
+    String paymentId = entity.path("id").asText("");
+    if (orderId.isBlank() || paymentId.isBlank()) {
+      return null;
+    }
+    return new Capture(orderId, paymentId, entity.path("method").asText(""));
+  }
+
+  private void retryLater(PaymentWebhookEvent event, String error, Instant now) {
+    int attempts = event.getAttempts() == null ? 1 : event.getAttempts() + 1;
+    event.setAttempts(attempts);
+    event.setLastError(error);
+    if (attempts >= maxAttempts) {
+      event.setStatus("failed");
+      event.setProcessedAt(now);
+      return;
+    }
+    long delay = retryBaseMillis << Math.min(attempts - 1, 20);
+    event.setNextAttemptAt(now.plusMillis(Math.min(delay, retryMaxMillis)));
+  }
+}
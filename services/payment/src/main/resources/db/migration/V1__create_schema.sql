@@ -0,0 +1,67 @@
+create table if not exists payments (
+  id bigint generated by default as identity primary key,
+  booking_id varchar(255) not null,
+  amount integer not null,
+  status varchar(255) not null,
+  installment_number integer,
+  total_installments integer,
+  due_date date,
+  travel_date date,
+  paid_at timestamp(6) with time zone,
+  payment_provider varchar(255),
+  payment_method varchar(255),
+  external_order_id varchar(255),
+  external_payment_id varchar(255),
+  tenant_id varchar(255),
+  created_at timestamp(6) with time zone not null,
+  constraint uk_payments_tenant_booking_installment unique (tenant_id, booking_id, installment_number)
+);
+
+create index if not exists idx_payments_tenant_id on payments (tenant_id, id);
+create index if not exists idx_payments_tenant_status_due on payments (tenant_id, status, due_date);
+create index if not exists idx_payments_external_order on payments (external_order_id);
+
+create table if not exists payment_deletion_audit (
+  id bigint generated by default as identity primary key,
+  payment_id bigint not null,
+  booking_id varchar(255),
+  amount integer,
+  status varchar(255),
+  installment_number integer,
+  total_installments integer,
+  due_date date,
+  paid_at timestamp(6) with time zone,
+  reason varchar(255) not null,
+  deleted_by varchar(255) not null,
+  tenant_id varchar(255) not null,
+  deleted_at timestamp(6) with time zone not null
+);
+
+create table if not exists payment_webhook_events (
+  id bigint generated by default as identity primary key,
+  event_id varchar(255) not null,
+  event_type varchar(255),
+  payload text not null,
+  status varchar(255) not null,
+  attempts integer not null,
+  last_error varchar(255),
+  received_at timestamp(6) with time zone not null,
+  processed_at timestamp(6) with time zone,
+  constraint uk_payment_webhook_events_event_id unique (event_id)
+);
+
+create index if not exists idx_payment_webhook_events_status on payment_webhook_events (status, id);
+
+create table if not exists payment_reminders (
+  id bigint generated by default as identity primary key,
+  payment_id bigint not null,
+  tenant_id varchar(255) not null,
+  booking_id varchar(255) not null,
+  installment_number integer,
+  kind varchar(255) not null,
+  due_date date,
+  created_at timestamp(6) with time zone not null,
+  constraint uk_payment_reminders_payment_kind unique (payment_id, kind)
+);
+
+create index if not exists idx_payment_reminders_tenant_id on payment_reminders (tenant_id, id);
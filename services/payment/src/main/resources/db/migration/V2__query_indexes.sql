@@ -0,0 +1,5 @@
+-- InstallmentDueScheduler keyset over open installments
+create index if not exists idx_payments_due_unpaid on payments (due_date, id) where status = 'due';
+
+-- WebhookEventProcessor.claimPending
+create index if not exists idx_payment_webhook_events_pending on payment_webhook_events (id) where status = 'pending';
@@ -0,0 +1,3 @@
+alter table payment_webhook_events add column if not exists next_attempt_at timestamp(6) with time zone;
+update payment_webhook_events set next_attempt_at = received_at where next_attempt_at is null;
+alter table payment_webhook_events alter column next_attempt_at set not null;
@@ -0,0 +1,2 @@
+-- idx_payment_webhook_events_status (status, id) already serves WebhookEventProcessor.claimPending
+drop index if exists idx_payment_webhook_events_pending;
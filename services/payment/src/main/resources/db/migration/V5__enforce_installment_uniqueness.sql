@@ -0,0 +1,34 @@
+-- V1 only creates uk_payments_tenant_booking_installment together with the payments table, so schemas
+-- baselined from the old ddl-auto setup may lack it and hold duplicate installments.
+create temporary table duplicate_installments on commit drop as
+select id from (
+  select id, row_number() over (
+    partition by tenant_id, booking_id, installment_number
+    order by (status = 'paid') desc, paid_at nulls last, id
+  ) as position
+  from payments
+  where tenant_id is not null and installment_number is not null
+) ranked
+where position > 1;
+
+insert into payment_deletion_audit
+  (payment_id, booking_id, amount, status, installment_number, total_installments, due_date, paid_at,
+   reason, deleted_by, tenant_id, deleted_at)
+select p.id, p.booking_id, p.amount, p.status, p.installment_number, p.total_installments, p.due_date, p.paid_at,
+  'duplicate installment', 'migration V5', p.tenant_id, now()
+from payments p
+join duplicate_installments d on d.id = p.id;
+
+delete from payment_reminders where payment_id in (select id from duplicate_installments);
+delete from payments where id in (select id from duplicate_installments);
+
+do $$
+begin
+  if not exists (
+    select 1 from pg_constraint
+    where conname = 'uk_payments_tenant_booking_installment' and conrelid = 'payments'::regclass
+  ) then
+    alter table payments add constraint uk_payments_tenant_booking_installment
+      unique (tenant_id, booking_id, installment_number);
+  end if;
+end $$;
@@ -0,0 +1,83 @@
+package com.almuhammad.payment.repo;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+  @Container
+  static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+  private static Connection connection;
+
+  @BeforeAll
+  static void migrateAndSeed() throws SQLException {
+    Flyway.configure()
+      .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+      .schemas("payment")
+      .load()
+      .migrate();
+    connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("set search_path to payment");
+      statement.execute("insert into payments (booking_id, amount, status, installment_number, total_installments, due_date,"
+        + " travel_date, tenant_id, created_at)"
+        + " select (n / 4)::text, 25000, case when n % 20 = 0 then 'due' else 'paid' end, n % 4 + 1, 4,"
+        + " current_date + (n % 365) - 180, current_date + 200, 'tenant-' || (n % 100), now()"
+        + " from generate_series(1, 80000) n");
+      statement.execute("insert into payment_webhook_events (event_id, event_type, payload, status, attempts, received_at, next_attempt_at)"
+        + " select 'evt_' || n, 'payment.captured', '{}', case when n % 100 = 0 then 'pending' else 'processed' end, 1,"
+        + " now(), now() from generate_series(1, 50000) n");
+      statement.execute("analyze payments");
+      statement.execute("analyze payment_webhook_events");
+    }
+  }
+
+  @AfterAll
+  static void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void dueChunkUsesPartialDueIndex() throws SQLException {
+    assertUsesIndex("idx_payments_due_unpaid", "select id, due_date from payments where status = 'due'"
+      + " and due_date <= current_date and (due_date, id) > (current_date - 30, 0)"
+      + " order by due_date, id limit 500 for update skip locked");
+  }
+
+  @Test
+  void bookingInstallmentsUseTenantBookingConstraint() throws SQLException {
+    assertUsesIndex("uk_payments_tenant_booking_installment", "select id from payments"
+      + " where tenant_id = 'tenant-42' and booking_id in ('1042', '2042') order by booking_id, installment_number");
+  }
+
+  @Test
+  void webhookClaimUsesStatusIndex() throws SQLException {
+    assertUsesIndex("idx_payment_webhook_events_status", "select * from payment_webhook_events"
+      + " where status = 'pending' and next_attempt_at <= now() order by id limit 50 for update skip locked");
+  }
+
+  private static void assertUsesIndex(String index, String sql) throws SQLException {
+    StringBuilder plan = new StringBuilder();
+    try (Statement statement = connection.createStatement();
+         ResultSet rows = statement.executeQuery("explain " + sql)) {
+      while (rows.next()) {
+        plan.append(rows.getString(1)).append('\n');
+      }
+    }
+    assertThat(plan.toString()).as(sql).contains(index).doesNotContain("Seq Scan");
+  }
+}
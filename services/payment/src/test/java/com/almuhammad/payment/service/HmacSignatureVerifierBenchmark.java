@@ -0,0 +1,68 @@
+package com.almuhammad.payment.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class HmacSignatureVerifierBenchmark {
+  private static final String SECRET = "webhook-secret-for-benchmarks";
+
+  private HmacSignatureVerifier verifier;
+  private byte[] payload;
+  private String signature;
+  private String tamperedSignature;
+
+  @Setup
+  public void setUp() throws Exception {
+    verifier = new HmacSignatureVerifier(SECRET);
+    payload = ("{\"event\":\"payment.captured\",\"payload\":{\"payment\":{\"entity\":{"
+      + "\"id\":\"pay_29QQoUBi66xm2f\",\"order_id\":\"order_9A33XWu170gUtm\",\"method\":\"upi\","
+      + "\"amount\":5000000,\"currency\":\"INR\",\"notes\":{\"bookingId\":\"42\",\"installmentNumber\":1}}}}}")
+      .repeat(4)
+      .getBytes(StandardCharsets.UTF_8);
+    signature = HexFormat.of().formatHex(freshMac().doFinal(payload));
+    tamperedSignature = (signature.charAt(0) == '0' ? "1" : "0") + signature.substring(1);
+  }
+
+  @Benchmark
+  public boolean verifyValid() {
+    return verifier.verify(payload, signature);
+  }
+
+  @Benchmark
+  public boolean verifyTampered() {
+    return verifier.verify(payload, tamperedSignature);
+  }
+
+  @Benchmark
+  public boolean verifyWithFreshMac() throws Exception {
+    return HexFormat.of().formatHex(freshMac().doFinal(payload)).equals(signature);
+  }
+
+  private static Mac freshMac() throws Exception {
+    Mac mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+    return mac;
+  }
+}
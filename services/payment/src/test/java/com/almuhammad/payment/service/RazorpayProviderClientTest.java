@@ -0,0 +1,151 @@
+package com.almuhammad.payment.service;
+
+import com.almuhammad.common.config.TenantTags;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RazorpayProviderClientTest {
+  private final AtomicInteger hits = new AtomicInteger();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private volatile Stub stub = Stub.OK;
+  private HttpServer server;
+  private ExecutorService serverThreads;
+
+  private enum Stub { OK, SERVER_ERROR, SLOW, BLOCKED }
+
+  @BeforeEach
+  void startStub() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    serverThreads = Executors.newCachedThreadPool();
+    server.setExecutor(serverThreads);
+    server.createContext("/v1/orders", this::handle);
+    server.start();
+  }
+
+  @AfterEach
+  void stopStub() {
+    release.countDown();
+    server.stop(0);
+    serverThreads.shutdownNow();
+  }
+
+  @Test
+  void returnsOrderIdFromProvider() throws Exception {
+    RazorpayProviderClient client = client(1000, 20, 5);
+
+    assertThat(client.createOrder(request()).get(5, TimeUnit.SECONDS).id()).isEqualTo("order_stub");
+  }
+
+  @Test
+  void timesOutSlowProviderAsUnavailable() {
+    stub = Stub.SLOW;
+    RazorpayProviderClient client = client(200, 20, 5);
+
+    assertUnavailable(client.createOrder(request()), "Payment provider unavailable");
+  }
+
+  @Test
+  void reportsServerErrorAsUnavailable() {
+    stub = Stub.SERVER_ERROR;
+    RazorpayProviderClient client = client(1000, 20, 5);
+
+    assertUnavailable(client.createOrder(request()), "Payment provider unavailable");
+    assertThat(hits.get()).isEqualTo(1);
+  }
+
+  @Test
+  void opensCircuitAfterConsecutiveFailures() {
+    stub = Stub.SERVER_ERROR;
+    RazorpayProviderClient client = client(1000, 20, 2);
+
+    assertUnavailable(client.createOrder(request()), "Payment provider unavailable");
+    assertUnavailable(client.createOrder(request()), "Payment provider unavailable");
+    stub = Stub.OK;
+
+    assertUnavailable(client.createOrder(request()), "Payment provider circuit is open");
+    assertThat(hits.get()).isEqualTo(2);
+  }
+
+  @Test
+  void rejectsCallsBeyondBulkhead() throws Exception {
+    stub = Stub.BLOCKED;
+    RazorpayProviderClient client = client(5000, 1, 5);
+
+    CompletableFuture<PaymentProviderClient.ProviderOrder> inFlight = client.createOrder(request());
+    assertUnavailable(client.createOrder(request()), "Too many concurrent payment provider calls");
+
+    release.countDown();
+    assertThat(inFlight.get(5, TimeUnit.SECONDS).id()).isEqualTo("order_stub");
+    assertThat(hits.get()).isEqualTo(1);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    hits.incrementAndGet();
+    exchange.getRequestBody().readAllBytes();
+    try {
+      switch (stub) {
+        case SLOW -> Thread.sleep(2000);
+        case BLOCKED -> release.await(5, TimeUnit.SECONDS);
+        default -> { }
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    byte[] body = stub == Stub.SERVER_ERROR
+      ? "{\"error\":\"unavailable\"}".getBytes(StandardCharsets.UTF_8)
+      : "{\"id\":\"order_stub\"}".getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(stub == Stub.SERVER_ERROR ? 503 : 200, body.length);
+    exchange.getResponseBody().write(body);
+    exchange.close();
+  }
+
+  private RazorpayProviderClient client(long readTimeoutMs, int maxConcurrentCalls, int failureThreshold) {
+    return new RazorpayProviderClient(
+      new ObjectMapper(),
+      new TenantTags("public"),
+      new SimpleMeterRegistry(),
+      "http://127.0.0.1:" + server.getAddress().getPort(),
+      "key_id",
+      "key_secret",
+      1000,
+      readTimeoutMs,
+      maxConcurrentCalls,
+      failureThreshold,
+      30
+    );
+  }
+
+  private PaymentProviderClient.OrderRequest request() {
+    return new PaymentProviderClient.OrderRequest(100_000L, "INR", "booking-1-inst-1", Map.of("tenantId", "public"));
+  }
+
+  private void assertUnavailable(CompletableFuture<PaymentProviderClient.ProviderOrder> future, String message) {
+    assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+      .isInstanceOf(ExecutionException.class)
+      .cause()
+      .isInstanceOf(PaymentProviderException.class)
+      .hasMessage(message)
+      .matches(ex -> ((PaymentProviderException) ex).isUnavailable());
+  }
+}